@@ -0,0 +1,114 @@
+package br.com.eaugusto.reflections.annotations.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.ConcurrentGenericMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Multi-threaded throughput of the {@link ConcurrentGenericMapDAO} operations.
+ *
+ * <p>
+ * One DAO is shared by every benchmark thread, and each thread walks its own
+ * pool of random keys. The thread count comes from the command line, for
+ * example {@code -t 1}, {@code -t 4} or {@code -t max}, so the same benchmark
+ * is run once per count to chart scalability from 1 to N threads.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx12g" })
+@State(Scope.Benchmark)
+public class ConcurrentDaoBenchmark {
+
+	private static final int POOL_SIZE = 1 << 16;
+
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	private int size;
+
+	@Param({ Datasets.CLIENT, Datasets.PRODUCT })
+	private String entity;
+
+	private IGenericDAO<Persistable> dao;
+
+	/** Per-thread arguments, drawn from a different seed range per thread. */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private String[] keys;
+		private Persistable[][] updates;
+		private int position;
+		private int version;
+
+		@Setup(Level.Trial)
+		public void prepare(ConcurrentDaoBenchmark benchmark, ThreadParams threads) {
+			int[] numbers = Datasets.sample(benchmark.size, POOL_SIZE * (threads.getThreadIndex() + 1));
+			keys = new String[POOL_SIZE];
+			updates = new Persistable[][] { new Persistable[POOL_SIZE], new Persistable[POOL_SIZE] };
+			int offset = POOL_SIZE * threads.getThreadIndex();
+			for (int i = 0; i < POOL_SIZE; i++) {
+				int number = numbers[offset + i];
+				keys[i] = Datasets.key(number);
+				updates[0][i] = Datasets.create(benchmark.entity, number, 1);
+				updates[1][i] = Datasets.create(benchmark.entity, number, 2);
+			}
+		}
+
+		int next() {
+			int index = position;
+			position = (index + 1) & (POOL_SIZE - 1);
+			if (position == 0) {
+				version ^= 1;
+			}
+			return index;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void fill() {
+		dao = Datasets.concurrentDao(entity);
+		Datasets.fill(dao, entity, size);
+	}
+
+	@Benchmark
+	public Persistable search(Cursor cursor) {
+		return dao.search(cursor.keys[cursor.next()]);
+	}
+
+	@Benchmark
+	public void updateEntity(Cursor cursor) {
+		int index = cursor.next();
+		dao.updateEntity(cursor.updates[cursor.version][index]);
+	}
+
+	/** Nine searches for every update, a typical read-mostly mix. */
+	@Benchmark
+	public Persistable readMostly(Cursor cursor) {
+		int index = cursor.next();
+		if (index % 10 == 0) {
+			dao.updateEntity(cursor.updates[cursor.version][index]);
+			return null;
+		}
+		return dao.search(cursor.keys[index]);
+	}
+}
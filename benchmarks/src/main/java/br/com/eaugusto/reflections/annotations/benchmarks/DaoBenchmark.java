@@ -0,0 +1,125 @@
+package br.com.eaugusto.reflections.annotations.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.GenericMapDAO;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Single-threaded benchmarks of the {@link GenericMapDAO} operations, over
+ * {@code Client} and {@code Product} datasets from 1 thousand to 10 million
+ * entries.
+ *
+ * <p>
+ * Arguments are prepared in pools of {@value #POOL_SIZE} random entries during
+ * setup, so the measured loop only calls the DAO. {@link #registerAndDelete()}
+ * registers a new entity and deletes it again, keeping the dataset size
+ * constant across invocations. The 10 million entries runs need a large heap;
+ * the fork is started with {@code -Xmx12g}.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx12g" })
+@State(Scope.Benchmark)
+public class DaoBenchmark {
+
+	private static final int POOL_SIZE = 1 << 16;
+
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	private int size;
+
+	@Param({ Datasets.CLIENT, Datasets.PRODUCT })
+	private String entity;
+
+	private GenericMapDAO<Persistable> dao;
+	private String[] keys;
+	private Persistable[] registered;
+	private Persistable[][] updates;
+	private Persistable[] fresh;
+	private String[] freshKeys;
+	private int cursor;
+	private int updateVersion;
+
+	@Setup(Level.Trial)
+	public void fill() {
+		dao = Datasets.mapDao(entity);
+		Datasets.fill(dao, entity, size);
+
+		int[] numbers = Datasets.sample(size, POOL_SIZE);
+		keys = new String[POOL_SIZE];
+		registered = new Persistable[POOL_SIZE];
+		updates = new Persistable[][] { new Persistable[POOL_SIZE], new Persistable[POOL_SIZE] };
+		fresh = new Persistable[POOL_SIZE];
+		freshKeys = new String[POOL_SIZE];
+		for (int i = 0; i < POOL_SIZE; i++) {
+			keys[i] = Datasets.key(numbers[i]);
+			registered[i] = dao.search(keys[i]);
+			updates[0][i] = Datasets.create(entity, numbers[i], 1);
+			updates[1][i] = Datasets.create(entity, numbers[i], 2);
+			fresh[i] = Datasets.create(entity, size + i, 0);
+			freshKeys[i] = Datasets.key(size + i);
+		}
+	}
+
+	private int next() {
+		int index = cursor;
+		cursor = (index + 1) & (POOL_SIZE - 1);
+		if (cursor == 0) {
+			updateVersion ^= 1;
+		}
+		return index;
+	}
+
+	@Benchmark
+	public String getKey() {
+		return dao.getKey(registered[next()]);
+	}
+
+	@Benchmark
+	public Persistable search() {
+		return dao.search(keys[next()]);
+	}
+
+	/** Alternates between two versions of each entity, so every call changes data. */
+	@Benchmark
+	public void updateEntity() {
+		int index = next();
+		dao.updateEntity(updates[updateVersion][index]);
+	}
+
+	@Benchmark
+	public Boolean registerAndDelete() {
+		int index = next();
+		Boolean registeredNow = dao.register(fresh[index]);
+		dao.delete(freshKeys[index]);
+		return registeredNow;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void searchAllIteration(Blackhole blackhole) {
+		for (Persistable eachEntity : dao.searchAll()) {
+			blackhole.consume(eachEntity);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package br.com.eaugusto.reflections.annotations.benchmarks;
+
+import java.util.Random;
+
+import br.com.eaugusto.reflections.annotations.dao.ClientConcurrentMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.ClientMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.ProductConcurrentMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.ProductMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.GenericMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Deterministic datasets shared by the benchmarks, so every run and every
+ * implementation works on the same entities.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class Datasets {
+
+	/** Entity type names accepted by the {@code entity} benchmark parameter. */
+	static final String CLIENT = "client";
+	static final String PRODUCT = "product";
+
+	private static final String[] STATES = { "AC", "AL", "AP", "AM", "BA", "CE", "DF", "ES", "GO", "MA", "MT", "MS",
+			"MG", "PA", "PB", "PR", "PE", "PI", "RJ", "RN", "RS", "RO", "RR", "SC", "SP", "SE", "TO" };
+	private static final String[] BRANDS = { "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne", "Tyrell",
+			"Cyberdyne" };
+
+	private Datasets() {
+
+	}
+
+	/**
+	 * Builds the entity with the given sequence number.
+	 *
+	 * @param entity  {@link #CLIENT} or {@link #PRODUCT}.
+	 * @param number  The sequence number, which determines the key.
+	 * @param version Changes the non-key, non-indexed data, so two versions of
+	 *                the same number differ only where an update would.
+	 * @return A new entity.
+	 */
+	static Persistable create(String entity, int number, int version) {
+		if (CLIENT.equals(entity)) {
+			return new Client("Cliente " + number + " v" + version, key(number), "11" + (900000000 + number),
+					"Rua " + (number % 5000), Integer.toString(number % 1000), "Cidade " + (number % 3000),
+					STATES[number % STATES.length]);
+		}
+		if (PRODUCT.equals(entity)) {
+			return new Product("Produto " + number, key(number), "Descrição v" + version, (number % 100000) / 100.0,
+					BRANDS[number % BRANDS.length]);
+		}
+		throw new IllegalArgumentException("Tipo de entidade desconhecido: " + entity);
+	}
+
+	/**
+	 * @param number A sequence number.
+	 * @return The 11-digit key of the entity with that number.
+	 */
+	static String key(int number) {
+		String digits = Long.toString(10_000_000_000L + number);
+		return digits.substring(digits.length() - 11);
+	}
+
+	/**
+	 * Creates an empty single-threaded DAO for the entity type.
+	 *
+	 * @param entity {@link #CLIENT} or {@link #PRODUCT}.
+	 * @return A new DAO.
+	 */
+	@SuppressWarnings("unchecked")
+	static GenericMapDAO<Persistable> mapDao(String entity) {
+		Object dao = CLIENT.equals(entity) ? new ClientMapDAO() : new ProductMapDAO();
+		return (GenericMapDAO<Persistable>) dao;
+	}
+
+	/**
+	 * Creates an empty thread-safe DAO for the entity type.
+	 *
+	 * @param entity {@link #CLIENT} or {@link #PRODUCT}.
+	 * @return A new DAO.
+	 */
+	@SuppressWarnings("unchecked")
+	static IGenericDAO<Persistable> concurrentDao(String entity) {
+		Object dao = CLIENT.equals(entity) ? new ClientConcurrentMapDAO() : new ProductConcurrentMapDAO();
+		return (IGenericDAO<Persistable>) dao;
+	}
+
+	/**
+	 * Registers entities {@code 0} to {@code size - 1} in the DAO.
+	 *
+	 * @param dao    The DAO to fill.
+	 * @param entity {@link #CLIENT} or {@link #PRODUCT}.
+	 * @param size   The number of entities.
+	 */
+	static void fill(IGenericDAO<Persistable> dao, String entity, int size) {
+		for (int i = 0; i < size; i++) {
+			dao.register(create(entity, i, 0));
+		}
+	}
+
+	/**
+	 * Picks entity numbers uniformly from {@code 0} to {@code size - 1} with a
+	 * fixed seed, used to visit keys in an order the hardware cannot predict
+	 * while keeping the prepared arguments small for large datasets.
+	 *
+	 * @param size  The number of registered entities.
+	 * @param count The number of picks.
+	 * @return The picked numbers.
+	 */
+	static int[] sample(int size, int count) {
+		int[] numbers = new int[count];
+		Random random = new Random(42);
+		for (int i = 0; i < count; i++) {
+			numbers[i] = random.nextInt(size);
+		}
+		return numbers;
+	}
+}
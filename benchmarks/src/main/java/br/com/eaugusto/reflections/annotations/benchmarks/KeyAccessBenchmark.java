@@ -0,0 +1,97 @@
+package br.com.eaugusto.reflections.annotations.benchmarks;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+import br.com.eaugusto.reflections.annotations.dao.generic.KeyExtractor;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+
+/**
+ * Cost of reading the {@link KeyType} getter of an entity through each access
+ * strategy: a direct call, {@link Method#invoke}, a constant
+ * {@link MethodHandle}, an accessor class generated at runtime by
+ * {@link LambdaMetafactory}, and the cached {@link KeyExtractor} used by the
+ * DAOs.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class KeyAccessBenchmark {
+
+	private static final Method GETTER;
+	private static final MethodHandle GETTER_HANDLE;
+	private static final Function<Object, Object> GENERATED_ACCESSOR;
+
+	static {
+		try {
+			String getterName = Client.class.getDeclaredField("cpf").getAnnotation(KeyType.class).value();
+			GETTER = Client.class.getMethod(getterName);
+			GETTER_HANDLE = MethodHandles.publicLookup().unreflect(GETTER)
+					.asType(MethodType.methodType(Object.class, Object.class));
+			GENERATED_ACCESSOR = generateAccessor();
+		} catch (Throwable e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Client client = (Client) Datasets.create(Datasets.CLIENT, 12345, 0);
+	private final KeyExtractor extractor = KeyExtractor.forClass(Client.class);
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> generateAccessor() throws Throwable {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle target = lookup.findVirtual(Client.class, GETTER.getName(), MethodType.methodType(String.class));
+		CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+				MethodType.methodType(Object.class, Object.class), target,
+				MethodType.methodType(String.class, Client.class));
+		return (Function<Object, Object>) site.getTarget().invokeExact();
+	}
+
+	@Benchmark
+	public String direct() {
+		return client.getCpf();
+	}
+
+	@Benchmark
+	public Object reflectiveInvoke() throws ReflectiveOperationException {
+		return GETTER.invoke(client);
+	}
+
+	@Benchmark
+	public Object methodHandle() throws Throwable {
+		return (Object) GETTER_HANDLE.invokeExact((Object) client);
+	}
+
+	@Benchmark
+	public Object generatedAccessor() {
+		return GENERATED_ACCESSOR.apply(client);
+	}
+
+	@Benchmark
+	public String keyExtractor() {
+		return extractor.extract(client);
+	}
+}
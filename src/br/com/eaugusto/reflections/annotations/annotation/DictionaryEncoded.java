@@ -0,0 +1,40 @@
+package br.com.eaugusto.reflections.annotations.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a low-cardinality {@code String} field whose values should be
+ * dictionary-encoded by the DAOs.
+ *
+ * <p>
+ * Each distinct value of the field is stored once in a shared dictionary and
+ * receives a small {@code int} code. Entities entering a DAO have the field
+ * replaced by the canonical instance of its value, and storage engines that
+ * keep entities encoded store the code instead of the characters. Suited to
+ * fields such as a city or a state, with few distinct values repeated across
+ * many entities.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * @code
+ * DictionaryEncoded
+ * private String state;
+ * </pre>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface DictionaryEncoded {
+
+}
@@ -0,0 +1,30 @@
+package br.com.eaugusto.reflections.annotations.annotation;
+
+/**
+ * Contract implemented by the key extractors generated at compile time for
+ * classes with a field annotated with {@link KeyType}.
+ *
+ * <p>
+ * For an entity {@code Client}, the generated class is named
+ * {@code Client_KeyExtractor}, lives in the same package and simply calls the
+ * getter named by {@link KeyType}, with no reflection involved.
+ * </p>
+ *
+ * @param <T> The entity type whose key is extracted.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public interface GeneratedKeyExtractor<T> {
+
+	/** Suffix appended to the entity class name to form the generated class name. */
+	public static final String SUFFIX = "_KeyExtractor";
+
+	/**
+	 * Reads the unique key of the given entity.
+	 *
+	 * @param entity The entity from which to extract the key.
+	 * @return The value returned by the getter named in {@link KeyType}.
+	 */
+	public String extractKey(T entity);
+}
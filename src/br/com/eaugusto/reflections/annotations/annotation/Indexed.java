@@ -0,0 +1,38 @@
+package br.com.eaugusto.reflections.annotations.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field whose values should be kept in a hash-based secondary index by
+ * the DAOs, so entities can be looked up by that field without a full scan.
+ * 
+ * <p>
+ * This annotation must be applied to a field in a class that implements
+ * {@link br.com.eaugusto.reflections.annotations.domain.Persistable}. The index
+ * is queried by the field name, through
+ * {@link br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO#findBy(String, Object)}.
+ * </p>
+ * 
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * @code
+ * Indexed
+ * private String city;
+ * </pre>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Indexed {
+
+}
@@ -0,0 +1,39 @@
+package br.com.eaugusto.reflections.annotations.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a numeric field whose values should be kept in an ordered index by the
+ * DAOs, so entities can be queried by value range or ranked without a full scan
+ * and sort.
+ * 
+ * <p>
+ * This annotation must be applied to a primitive numeric field (such as a
+ * {@code double}) in a class that implements
+ * {@link br.com.eaugusto.reflections.annotations.domain.Persistable}. Values
+ * are stored in the index as primitive {@code double}s.
+ * </p>
+ * 
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * @code
+ * RangeIndexed
+ * private double value;
+ * </pre>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RangeIndexed {
+
+}
@@ -1,7 +1,18 @@
 package br.com.eaugusto.reflections.annotations.app;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import javax.swing.JOptionPane;
 
+import br.com.eaugusto.reflections.annotations.bulk.RecordParser;
 import br.com.eaugusto.reflections.annotations.dao.ClientMapDAO;
 import br.com.eaugusto.reflections.annotations.dao.IClientDAO;
 import br.com.eaugusto.reflections.annotations.dao.IProductDAO;
@@ -27,7 +38,8 @@ import br.com.eaugusto.reflections.annotations.ui.PromptHelper;
  * <li>Switch between using {@code ClientMapDAO} and {@code ClientSetDAO} for
  * client storage</li>
  * <li>Support for CRUD operations on Clients and Products</li>
- * <li>User interaction via graphical dialog prompts (JOptionPane)</li>
+ * <li>User interaction via graphical dialog prompts (JOptionPane), or a
+ * scripted headless mode ({@code --headless [file]})</li>
  * </ul>
  * 
  * <p>
@@ -38,7 +50,8 @@ import br.com.eaugusto.reflections.annotations.ui.PromptHelper;
  * <p>
  * Known limitations:
  * <ul>
- * <li>Storage is in-memory (no persistence to file or database)</li>
+ * <li>Storage is in-memory here; the map DAOs also offer a durable mode backed
+ * by a write-ahead log file, but no database</li>
  * <li>Simple input validation</li>
  * </ul>
  * 
@@ -47,7 +60,6 @@ import br.com.eaugusto.reflections.annotations.ui.PromptHelper;
  */
 public class App {
 
-	private static final String NOTINFORMEDERROR = "Não informado";
 	private static final String ENTRYERROR = "Erro de Entrada";
 
 	private static IClientDAO iClientDAO;
@@ -59,19 +71,49 @@ public class App {
 	 * Initializes the DAOs and launches the dashboard for Client or Product
 	 * management. Presents a dialog to select whether to manage Clients or
 	 * Products, and starts the interactive loop.
+	 * <p>
+	 * With {@code --headless [file]}, runs the commands of the file, or of the
+	 * standard input when no file is given, through {@link HeadlessRunner}
+	 * instead, without opening any dialog.
 	 * 
-	 * @param args command-line arguments (not used)
+	 * @param args command-line arguments: optionally {@code --headless} and a
+	 *             command file
+	 * @throws IOException if the command file cannot be read
 	 */
-	public static void main(String[] args) {
+	public static void main(String[] args) throws IOException {
 		iClientDAO = new ClientMapDAO();
 		iProductDAO = new ProductMapDAO();
 
+		if (args.length > 0 && "--headless".equals(args[0])) {
+			runHeadless(args.length > 1 ? Path.of(args[1]) : null);
+			return;
+		}
+
 		int entityChoice = MenuHelper.showEntitySelection();
 		boolean isClient = MenuHelper.isClientSelected(entityChoice);
 
 		runDashboardLoop(isClient);
 	}
 
+	/**
+	 * Runs the commands of a script against the DAOs, writing the results to the
+	 * standard output.
+	 * 
+	 * @param script the command file, or {@code null} to read the standard input
+	 * @throws IOException if the command file cannot be read
+	 */
+	private static void runHeadless(Path script) throws IOException {
+		Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+		HeadlessRunner runner = new HeadlessRunner(iClientDAO, iProductDAO, out);
+		if (script == null) {
+			runner.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), 1 << 16));
+		} else {
+			try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+				runner.run(reader);
+			}
+		}
+	}
+
 	/**
 	 * Runs the main dashboard interaction loop.
 	 * <p>
@@ -193,27 +235,9 @@ public class App {
 			return;
 		}
 
-		String[] splitData = data.split(",");
-
-		for (int i = 0; i < splitData.length; i++) {
-			String field = splitData[i].trim();
-			if (field.isEmpty()) {
-				splitData[i] = NOTINFORMEDERROR;
-			} else {
-				splitData[i] = field;
-			}
-		}
-
-		while (splitData.length < 7) {
-			int originalLength = splitData.length;
-			splitData = java.util.Arrays.copyOf(splitData, 7);
-			for (int i = originalLength; i < 7; i++) {
-				splitData[i] = NOTINFORMEDERROR;
-			}
-		}
-
-		Client client = new Client(splitData[0], splitData[1], splitData[2], splitData[3], splitData[4], splitData[5],
-				splitData[6]);
+		RecordParser fields = new RecordParser().parse(data);
+		Client client = new Client(fields.text(0), fields.text(1), fields.text(2), fields.text(3), fields.text(4),
+				fields.text(5), fields.text(6));
 
 		boolean isRegistered = iClientDAO.register(client);
 		if (isRegistered) {
@@ -277,22 +301,9 @@ public class App {
 			return;
 		}
 
-		String[] splitData = newData.split(",");
-		for (int i = 0; i < splitData.length; i++) {
-			String field = splitData[i].trim();
-			splitData[i] = field.isEmpty() ? NOTINFORMEDERROR : field;
-		}
-
-		while (splitData.length < 6) {
-			int originalLength = splitData.length;
-			splitData = java.util.Arrays.copyOf(splitData, 6);
-			for (int i = originalLength; i < 6; i++) {
-				splitData[i] = NOTINFORMEDERROR;
-			}
-		}
-
-		Client updatedClient = new Client(splitData[0], cpf, splitData[1], splitData[2], splitData[3], splitData[4],
-				splitData[5]);
+		RecordParser fields = new RecordParser().parse(newData);
+		Client updatedClient = new Client(fields.text(0), cpf, fields.text(1), fields.text(2), fields.text(3),
+				fields.text(4), fields.text(5));
 		iClientDAO.updateEntity(updatedClient);
 		JOptionPane.showMessageDialog(null, "Cliente atualizado com sucesso.", "Cliente Atualizado",
 				JOptionPane.INFORMATION_MESSAGE);
@@ -335,28 +346,10 @@ public class App {
 			return;
 		}
 
-		String[] splitData = data.split(",");
-
-		for (int i = 0; i < splitData.length; i++) {
-			String field = splitData[i].trim();
-			if (field.isEmpty()) {
-				splitData[i] = NOTINFORMEDERROR;
-			} else {
-				splitData[i] = field;
-			}
-		}
-
-		while (splitData.length < 5) {
-			int originalLength = splitData.length;
-			splitData = java.util.Arrays.copyOf(splitData, 5);
-			for (int i = originalLength; i < 5; i++) {
-				splitData[i] = NOTINFORMEDERROR;
-			}
-		}
-
+		RecordParser fields = new RecordParser().parse(data);
 		try {
-			double value = Double.parseDouble(splitData[3]);
-			Product product = new Product(splitData[0], splitData[1], splitData[2], value, splitData[4]);
+			double value = fields.number(3);
+			Product product = new Product(fields.text(0), fields.text(1), fields.text(2), value, fields.text(4));
 			boolean isRegistered = iProductDAO.register(product);
 			if (isRegistered) {
 				JOptionPane.showMessageDialog(null, "Produto cadastrado com sucesso.", "Sucesso",
@@ -423,23 +416,10 @@ public class App {
 			return;
 		}
 
-		String[] splitData = newData.split(",");
-		for (int i = 0; i < splitData.length; i++) {
-			String field = splitData[i].trim();
-			splitData[i] = field.isEmpty() ? NOTINFORMEDERROR : field;
-		}
-
-		while (splitData.length < 4) {
-			int originalLength = splitData.length;
-			splitData = java.util.Arrays.copyOf(splitData, 4);
-			for (int i = originalLength; i < 4; i++) {
-				splitData[i] = NOTINFORMEDERROR;
-			}
-		}
-
+		RecordParser fields = new RecordParser().parse(newData);
 		try {
-			double value = Double.parseDouble(splitData[2]);
-			Product updatedProduct = new Product(splitData[0], code, splitData[1], value, splitData[3]);
+			double value = fields.number(2);
+			Product updatedProduct = new Product(fields.text(0), code, fields.text(1), value, fields.text(3));
 
 			iProductDAO.updateEntity(updatedProduct);
 			JOptionPane.showMessageDialog(null, "Produto atualizado com sucesso.", "Produto Atualizado",
@@ -0,0 +1,278 @@
+package br.com.eaugusto.reflections.annotations.app;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import br.com.eaugusto.reflections.annotations.bulk.EntityRecords;
+import br.com.eaugusto.reflections.annotations.bulk.RecordParser;
+import br.com.eaugusto.reflections.annotations.dao.IClientDAO;
+import br.com.eaugusto.reflections.annotations.dao.IProductDAO;
+import br.com.eaugusto.reflections.annotations.dao.metrics.LatencyHistogram;
+import br.com.eaugusto.reflections.annotations.dao.metrics.LatencySnapshot;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Runs the dashboard operations of {@link App} from a script instead of
+ * dialogs, so they can be automated, replayed or load-tested on machines
+ * without a display.
+ *
+ * <p>
+ * Each line holds one command, {@code <entity> <operation> [arguments]}:
+ * </p>
+ * <ul>
+ * <li>{@code cliente cadastrar Nome, CPF, Telefone, Endereço, Número, Cidade, Estado}</li>
+ * <li>{@code cliente pesquisar <CPF>}</li>
+ * <li>{@code cliente excluir <CPF>}</li>
+ * <li>{@code cliente alterar <CPF> Nome, Telefone, Endereço, Número, Cidade, Estado}</li>
+ * <li>{@code produto cadastrar Nome, Código, Descrição, Valor, Marca}</li>
+ * <li>{@code produto pesquisar <Código>}</li>
+ * <li>{@code produto excluir <Código>}</li>
+ * <li>{@code produto alterar <Código> Nome, Descrição, Valor, Marca}</li>
+ * </ul>
+ * <p>
+ * The operations may also be given by their dashboard numbers, {@code 1} to
+ * {@code 4}. {@code sair} or {@code 5} stops the script, and blank lines and
+ * lines starting with {@code #} are ignored. Data follows the same rules as
+ * the dialogs, and every command prints the message the dialog would show. The
+ * output is buffered and ends with the throughput and the latency of each
+ * operation.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class HeadlessRunner {
+
+	private static final String[] OPERATION_NAMES = { "cadastrar", "pesquisar", "excluir", "alterar" };
+	private static final int REGISTER = 0;
+	private static final int SEARCH = 1;
+	private static final int DELETE = 2;
+	private static final int MODIFY = 3;
+	private static final int EXIT = 4;
+
+	private static final String NO_VALUE_INSERTED = "Nenhum valor foi inserido.";
+
+	private final IClientDAO clientDAO;
+	private final IProductDAO productDAO;
+	private final Writer out;
+	private final RecordParser fields = new RecordParser();
+
+	/** One histogram per operation, clients first and then products. */
+	private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATION_NAMES.length * 2];
+	private long commands;
+	private long invalidCommands;
+
+	/**
+	 * Creates a runner.
+	 *
+	 * @param clientDAO  The DAO receiving the client commands.
+	 * @param productDAO The DAO receiving the product commands.
+	 * @param out        Receives one message per command and the final report;
+	 *                   should be buffered.
+	 */
+	public HeadlessRunner(IClientDAO clientDAO, IProductDAO productDAO, Writer out) {
+		this.clientDAO = clientDAO;
+		this.productDAO = productDAO;
+		this.out = out;
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Runs every command of a script, then prints the report and flushes the
+	 * output.
+	 *
+	 * @param script The commands, one per line.
+	 * @throws UncheckedIOException if the script cannot be read or the output
+	 *                              cannot be written.
+	 */
+	public void run(BufferedReader script) {
+		try {
+			long start = System.nanoTime();
+			String line;
+			while ((line = script.readLine()) != null) {
+				if (!execute(line)) {
+					break;
+				}
+			}
+			printReport(System.nanoTime() - start);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Falha ao executar o script", e);
+		}
+	}
+
+	/**
+	 * Runs one command.
+	 *
+	 * @return false if the command asks to stop.
+	 */
+	private boolean execute(String line) throws IOException {
+		String command = line.trim();
+		if (command.isEmpty() || command.charAt(0) == '#') {
+			return true;
+		}
+
+		int entityEnd = tokenEnd(command, 0);
+		String entity = command.substring(0, entityEnd);
+		if (operationOf(entity) == EXIT) {
+			return false;
+		}
+		int operationStart = tokenStart(command, entityEnd);
+		int operationEnd = tokenEnd(command, operationStart);
+		int operation = operationOf(command.substring(operationStart, operationEnd));
+		if (operation == EXIT) {
+			return false;
+		}
+
+		boolean isClient = "cliente".equalsIgnoreCase(entity);
+		if (operation < 0 || !isClient && !"produto".equalsIgnoreCase(entity)) {
+			invalidCommands++;
+			out.write("Comando inválido: ");
+			out.write(command);
+			out.write('\n');
+			return true;
+		}
+
+		String arguments = command.substring(tokenStart(command, operationEnd));
+		long start = System.nanoTime();
+		String message = isClient ? executeClient(operation, arguments) : executeProduct(operation, arguments);
+		latencies[(isClient ? 0 : OPERATION_NAMES.length) + operation].record(System.nanoTime() - start);
+		commands++;
+		out.write(message);
+		out.write('\n');
+		return true;
+	}
+
+	private String executeClient(int operation, String arguments) {
+		if (arguments.isEmpty()) {
+			return operation == REGISTER ? NO_VALUE_INSERTED : "CPF não pode estar vazio.";
+		}
+		switch (operation) {
+		case REGISTER:
+			Client client = EntityRecords.CLIENT.map(fields.parse(arguments));
+			return Boolean.TRUE.equals(clientDAO.register(client)) ? "Cliente cadastrado com sucesso"
+					: "Cliente já se encontra cadastrado";
+		case SEARCH:
+			Client found = clientDAO.search(arguments);
+			return found != null ? "Cliente encontrado. \n" + found : "Cliente não encontrado.";
+		case DELETE:
+			if (clientDAO.search(arguments) == null) {
+				return "Cliente não encontrado.";
+			}
+			clientDAO.delete(arguments);
+			return "Cliente excluído com sucesso.";
+		case MODIFY:
+			int keyEnd = tokenEnd(arguments, 0);
+			String cpf = arguments.substring(0, keyEnd);
+			if (clientDAO.search(cpf) == null) {
+				return "Cliente não encontrado.";
+			}
+			String data = arguments.substring(tokenStart(arguments, keyEnd));
+			if (data.isEmpty()) {
+				return NO_VALUE_INSERTED;
+			}
+			fields.parse(data);
+			clientDAO.updateEntity(new Client(fields.text(0), cpf, fields.text(1), fields.text(2), fields.text(3),
+					fields.text(4), fields.text(5)));
+			return "Cliente atualizado com sucesso.";
+		default:
+			throw new IllegalStateException("Operação desconhecida: " + operation);
+		}
+	}
+
+	private String executeProduct(int operation, String arguments) {
+		if (arguments.isEmpty()) {
+			return operation == REGISTER ? NO_VALUE_INSERTED : "Código do produto não pode estar vazio.";
+		}
+		switch (operation) {
+		case REGISTER:
+			Product product;
+			try {
+				product = EntityRecords.PRODUCT.map(fields.parse(arguments));
+			} catch (IllegalArgumentException e) {
+				return "Valor inválido para o campo 'Valor'.";
+			}
+			return Boolean.TRUE.equals(productDAO.register(product)) ? "Produto cadastrado com sucesso."
+					: "Produto já cadastrado.";
+		case SEARCH:
+			Product found = productDAO.search(arguments);
+			return found != null ? "Produto encontrado:\n" + found : "Produto não encontrado.";
+		case DELETE:
+			if (productDAO.search(arguments) == null) {
+				return "Produto não encontrado.";
+			}
+			productDAO.delete(arguments);
+			return "Produto excluído com sucesso.";
+		case MODIFY:
+			int keyEnd = tokenEnd(arguments, 0);
+			String code = arguments.substring(0, keyEnd);
+			if (productDAO.search(code) == null) {
+				return "Produto não encontrado.";
+			}
+			String data = arguments.substring(tokenStart(arguments, keyEnd));
+			if (data.isEmpty()) {
+				return NO_VALUE_INSERTED;
+			}
+			fields.parse(data);
+			double value;
+			try {
+				value = fields.number(2);
+			} catch (NumberFormatException e) {
+				return "Valor inválido para o campo 'Valor'.";
+			}
+			productDAO.updateEntity(new Product(fields.text(0), code, fields.text(1), value, fields.text(3)));
+			return "Produto atualizado com sucesso.";
+		default:
+			throw new IllegalStateException("Operação desconhecida: " + operation);
+		}
+	}
+
+	private void printReport(long elapsedNanos) throws IOException {
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		out.write("--- Resumo ---\n");
+		out.write("Comandos: " + commands + " em " + elapsedNanos / 1_000_000 + "ms ("
+				+ Math.round(seconds == 0 ? 0 : commands / seconds) + " comandos/s), inválidos: " + invalidCommands
+				+ '\n');
+		for (int i = 0; i < latencies.length; i++) {
+			String entity = i < OPERATION_NAMES.length ? "cliente " : "produto ";
+			LatencySnapshot latency = latencies[i].snapshot();
+			if (latency.getCount() > 0) {
+				out.write(entity + OPERATION_NAMES[i % OPERATION_NAMES.length] + ": " + latency + '\n');
+			}
+		}
+	}
+
+	/** @return The index of an operation name or dashboard number, or -1. */
+	private static int operationOf(String token) {
+		if ("sair".equalsIgnoreCase(token) || "5".equals(token)) {
+			return EXIT;
+		}
+		for (int i = 0; i < OPERATION_NAMES.length; i++) {
+			if (OPERATION_NAMES[i].equalsIgnoreCase(token) || token.length() == 1 && token.charAt(0) == '1' + i) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int tokenEnd(String text, int start) {
+		int end = start;
+		while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+			end++;
+		}
+		return end;
+	}
+
+	private static int tokenStart(String text, int from) {
+		int start = from;
+		while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+			start++;
+		}
+		return start;
+	}
+}
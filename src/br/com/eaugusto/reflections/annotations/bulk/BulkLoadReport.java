@@ -0,0 +1,59 @@
+package br.com.eaugusto.reflections.annotations.bulk;
+
+/**
+ * Outcome of one {@link CsvBulkLoader#load} call.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class BulkLoadReport {
+
+	private final long lines;
+	private final long registered;
+	private final long duplicates;
+	private final long rejected;
+	private final long elapsedNanos;
+
+	BulkLoadReport(long lines, long registered, long duplicates, long rejected, long elapsedNanos) {
+		this.lines = lines;
+		this.registered = registered;
+		this.duplicates = duplicates;
+		this.rejected = rejected;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/** @return The lines read, including blank lines and the header. */
+	public long getLines() {
+		return lines;
+	}
+
+	public long getRegistered() {
+		return registered;
+	}
+
+	/** @return The records refused because their key was already registered. */
+	public long getDuplicates() {
+		return duplicates;
+	}
+
+	/** @return The records the mapper could not convert. */
+	public long getRejected() {
+		return rejected;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/** @return The records registered per second. */
+	public double getRecordsPerSecond() {
+		return elapsedNanos == 0 ? 0 : registered * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "Importação: lines=" + lines + ", registered=" + registered + ", duplicates=" + duplicates
+				+ ", rejected=" + rejected + ", elapsed=" + elapsedNanos / 1_000_000 + "ms, "
+				+ Math.round(getRecordsPerSecond()) + " registros/s";
+	}
+}
@@ -0,0 +1,449 @@
+package br.com.eaugusto.reflections.annotations.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import br.com.eaugusto.reflections.annotations.dao.IClientDAO;
+import br.com.eaugusto.reflections.annotations.dao.IProductDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Streams a CSV file into a DAO through a three stage pipeline.
+ *
+ * <ol>
+ * <li>A reader thread fills fixed-size byte chunks from a {@link FileChannel},
+ * cutting each one after its last line break.</li>
+ * <li>Several parser threads decode each line of a chunk as UTF-8 into a
+ * reused buffer, split it with a {@link RecordParser} and turn it into an
+ * entity with a {@link RecordMapper}.</li>
+ * <li>A single writer thread puts the parsed chunks back in file order and
+ * registers each one with {@link IGenericDAO#registerAll}, so the DAO needs no
+ * synchronization and duplicates are resolved in favour of the first line.</li>
+ * </ol>
+ *
+ * <p>
+ * The stages are connected by bounded queues, so a slow writer stalls the
+ * reader instead of letting the file pile up in memory. Lines the mapper
+ * rejects and records whose key is already registered are written to the
+ * error file as {@code <line number>\t<reason>\t<line>}. Blank lines are
+ * skipped. Fields are not quoted, like in the interactive registration.
+ * </p>
+ *
+ * <p>
+ * The DAO must not be used by other threads while a load runs.
+ * </p>
+ *
+ * @param <T> The type of entity loaded.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class CsvBulkLoader<T extends Persistable> {
+
+	/** Default size of the chunks handed to the parser threads. */
+	public static final int DEFAULT_CHUNK_BYTES = 1024 * 1024;
+
+	private static final String DUPLICATE_REASON = "Já cadastrado";
+
+	private final IGenericDAO<T> dao;
+	private final RecordMapper<T> mapper;
+	private final int parserThreads;
+	private final int chunkBytes;
+	private final boolean skipHeader;
+
+	/**
+	 * Creates a loader using one parser thread per available core, minus the
+	 * ones taken by the reader and the writer.
+	 *
+	 * @param dao    The DAO receiving the entities.
+	 * @param mapper Converts lines into entities.
+	 */
+	public CsvBulkLoader(IGenericDAO<T> dao, RecordMapper<T> mapper) {
+		this(dao, mapper, Math.max(1, Runtime.getRuntime().availableProcessors() - 2), DEFAULT_CHUNK_BYTES, false);
+	}
+
+	/**
+	 * Creates a loader.
+	 *
+	 * @param dao           The DAO receiving the entities.
+	 * @param mapper        Converts lines into entities.
+	 * @param parserThreads Number of parser threads.
+	 * @param chunkBytes    Size of the chunks read from the file; lines longer
+	 *                      than this still load, in a larger chunk.
+	 * @param skipHeader    Whether the first line holds column names.
+	 */
+	public CsvBulkLoader(IGenericDAO<T> dao, RecordMapper<T> mapper, int parserThreads, int chunkBytes,
+			boolean skipHeader) {
+		this.dao = dao;
+		this.mapper = mapper;
+		this.parserThreads = Math.max(1, parserThreads);
+		this.chunkBytes = Math.max(1024, chunkBytes);
+		this.skipHeader = skipHeader;
+	}
+
+	/**
+	 * Creates a loader for {@code Nome, CPF, Telefone, Endereço, Número, Cidade,
+	 * Estado} files.
+	 *
+	 * @param dao The client DAO.
+	 * @return The loader.
+	 */
+	public static CsvBulkLoader<Client> forClients(IClientDAO dao) {
+		return new CsvBulkLoader<>(dao, EntityRecords.CLIENT);
+	}
+
+	/**
+	 * Creates a loader for {@code Nome, Código, Descrição, Valor, Marca} files.
+	 *
+	 * @param dao The product DAO.
+	 * @return The loader.
+	 */
+	public static CsvBulkLoader<Product> forProducts(IProductDAO dao) {
+		return new CsvBulkLoader<>(dao, EntityRecords.PRODUCT);
+	}
+
+	/**
+	 * Loads a file, blocking until every line has been registered or rejected.
+	 *
+	 * @param input     The CSV file.
+	 * @param errorFile The file receiving the rejected lines, replaced if it
+	 *                  exists.
+	 * @return The counts of the load.
+	 * @throws UncheckedIOException  if a file cannot be read or written.
+	 * @throws IllegalStateException if the calling thread is interrupted.
+	 */
+	public BulkLoadReport load(Path input, Path errorFile) {
+		return new Pipeline(input, errorFile).run();
+	}
+
+	/** A slice of the file ending at a line break. */
+	private static final class Chunk {
+
+		static final Chunk END = new Chunk(-1, new byte[0], 0);
+
+		final long sequence;
+		final byte[] bytes;
+		final int length;
+
+		Chunk(long sequence, byte[] bytes, int length) {
+			this.sequence = sequence;
+			this.bytes = bytes;
+			this.length = length;
+		}
+	}
+
+	/** The parsed lines of one chunk. */
+	private static final class Batch<T> {
+
+		final long sequence;
+		final byte[] bytes;
+		int lineCount;
+		final List<T> entities = new ArrayList<>();
+		/** Line index, first byte and end of the line of each entity. */
+		int[] entityLines = new int[3 * 64];
+		final List<String> rejectedLines = new ArrayList<>();
+		final List<String> rejectedReasons = new ArrayList<>();
+		int[] rejectedLineIndexes = new int[8];
+
+		Batch(long sequence, byte[] bytes) {
+			this.sequence = sequence;
+			this.bytes = bytes;
+		}
+
+		void accept(int lineIndex, int start, int end, T entity) {
+			int slot = entities.size() * 3;
+			if (slot == entityLines.length) {
+				entityLines = Arrays.copyOf(entityLines, entityLines.length * 2);
+			}
+			entityLines[slot] = lineIndex;
+			entityLines[slot + 1] = start;
+			entityLines[slot + 2] = end;
+			entities.add(entity);
+		}
+
+		int entityLineIndex(int entityIndex) {
+			return entityLines[entityIndex * 3];
+		}
+
+		String entityLine(int entityIndex) {
+			int start = entityLines[entityIndex * 3 + 1];
+			return new String(bytes, start, entityLines[entityIndex * 3 + 2] - start, StandardCharsets.UTF_8);
+		}
+
+		void reject(int lineIndex, String line, String reason) {
+			if (rejectedLines.size() == rejectedLineIndexes.length) {
+				rejectedLineIndexes = Arrays.copyOf(rejectedLineIndexes, rejectedLineIndexes.length * 2);
+			}
+			rejectedLineIndexes[rejectedLines.size()] = lineIndex;
+			rejectedLines.add(line);
+			rejectedReasons.add(reason);
+		}
+	}
+
+	/**
+	 * The state a parser thread reuses across lines: the UTF-8 decoder, the
+	 * characters of the current line and the {@link RecordParser} splitting them.
+	 */
+	private final class LineParser {
+
+		private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private final RecordParser record = new RecordParser();
+		private CharBuffer chars = CharBuffer.allocate(256);
+
+		Batch<T> parse(Chunk chunk) {
+			byte[] bytes = chunk.bytes;
+			ByteBuffer input = ByteBuffer.wrap(bytes, 0, chunk.length);
+			int position = 0;
+			if (chunk.sequence == 0 && chunk.length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB
+					&& bytes[2] == (byte) 0xBF) {
+				position = 3;
+			}
+
+			Batch<T> batch = new Batch<>(chunk.sequence, bytes);
+			int lineIndex = 0;
+			while (position < chunk.length) {
+				int start = position;
+				int end = start;
+				while (end < chunk.length && bytes[end] != '\n') {
+					end++;
+				}
+				position = end + 1;
+				int index = lineIndex++;
+				if (end > start && bytes[end - 1] == '\r') {
+					end--;
+				}
+				if (index == 0 && chunk.sequence == 0 && skipHeader) {
+					continue;
+				}
+				record.parse(decode(input, start, end));
+				if (record.isBlank()) {
+					continue;
+				}
+				try {
+					batch.accept(index, start, end, mapper.map(record));
+				} catch (IllegalArgumentException e) {
+					batch.reject(index, chars.toString(), e.getMessage());
+				}
+			}
+			batch.lineCount = lineIndex;
+			return batch;
+		}
+
+		private CharBuffer decode(ByteBuffer input, int start, int end) {
+			if (chars.capacity() < end - start) {
+				chars = CharBuffer.allocate(Math.max(end - start, chars.capacity() * 2));
+			}
+			input.limit(end).position(start);
+			chars.clear();
+			decoder.reset();
+			decoder.decode(input, chars, true);
+			decoder.flush(chars);
+			return chars.flip();
+		}
+	}
+
+	/** The threads and queues of one load. */
+	private final class Pipeline {
+
+		private final Path input;
+		private final Path errorFile;
+		private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(parserThreads * 2);
+		private final BlockingQueue<Batch<T>> batches = new ArrayBlockingQueue<>(parserThreads * 2);
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+		private final List<Thread> threads = new ArrayList<>();
+
+		private long lines;
+		private long registered;
+		private long duplicates;
+		private long rejected;
+
+		Pipeline(Path input, Path errorFile) {
+			this.input = input;
+			this.errorFile = errorFile;
+		}
+
+		BulkLoadReport run() {
+			long start = System.nanoTime();
+			threads.add(new Thread(this::read, "csv-reader"));
+			for (int i = 0; i < parserThreads; i++) {
+				threads.add(new Thread(this::parse, "csv-parser-" + i));
+			}
+			threads.add(new Thread(this::write, "csv-writer"));
+			for (Thread eachThread : threads) {
+				eachThread.setDaemon(true);
+				eachThread.start();
+			}
+
+			try {
+				for (Thread eachThread : threads) {
+					eachThread.join();
+				}
+			} catch (InterruptedException e) {
+				abort(e);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Importação de " + input + " interrompida", e);
+			}
+
+			Throwable cause = failure.get();
+			if (cause instanceof IOException) {
+				throw new UncheckedIOException("Não foi possível importar " + input, (IOException) cause);
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else if (cause != null) {
+				throw new IllegalStateException("Importação de " + input + " interrompida", cause);
+			}
+			return new BulkLoadReport(lines, registered, duplicates, rejected, System.nanoTime() - start);
+		}
+
+		private void abort(Throwable cause) {
+			if (failure.compareAndSet(null, cause)) {
+				for (Thread eachThread : threads) {
+					if (eachThread != Thread.currentThread()) {
+						eachThread.interrupt();
+					}
+				}
+			}
+		}
+
+		private void read() {
+			try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+				long sequence = 0;
+				byte[] bytes = new byte[chunkBytes];
+				int length = 0;
+				while (true) {
+					int read = channel.read(ByteBuffer.wrap(bytes, length, bytes.length - length));
+					if (read < 0) {
+						break;
+					}
+					length += read;
+					if (length < bytes.length) {
+						continue;
+					}
+					int end = lastLineBreak(bytes, length);
+					if (end < 0) {
+						bytes = Arrays.copyOf(bytes, bytes.length * 2);
+						continue;
+					}
+					byte[] next = new byte[Math.max(chunkBytes, length - end)];
+					System.arraycopy(bytes, end, next, 0, length - end);
+					chunks.put(new Chunk(sequence++, bytes, end));
+					length -= end;
+					bytes = next;
+				}
+				if (length > 0) {
+					chunks.put(new Chunk(sequence, bytes, length));
+				}
+				for (int i = 0; i < parserThreads; i++) {
+					chunks.put(Chunk.END);
+				}
+			} catch (Throwable e) {
+				abort(e);
+			}
+		}
+
+		private void parse() {
+			try {
+				LineParser parser = new LineParser();
+				while (true) {
+					Chunk chunk = chunks.take();
+					if (chunk == Chunk.END) {
+						batches.put(new Batch<>(-1, null));
+						return;
+					}
+					batches.put(parser.parse(chunk));
+				}
+			} catch (Throwable e) {
+				abort(e);
+			}
+		}
+
+		private void write() {
+			try (BufferedWriter errors = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8)) {
+				Map<Long, Batch<T>> waiting = new HashMap<>();
+				long nextSequence = 0;
+				int finishedParsers = 0;
+				while (finishedParsers < parserThreads) {
+					Batch<T> batch = batches.take();
+					if (batch.sequence < 0) {
+						finishedParsers++;
+						continue;
+					}
+					waiting.put(batch.sequence, batch);
+					for (Batch<T> ready = waiting.remove(nextSequence); ready != null; ready = waiting
+							.remove(nextSequence)) {
+						register(ready, errors);
+						nextSequence++;
+					}
+				}
+			} catch (Throwable e) {
+				abort(e);
+			}
+		}
+
+		private void register(Batch<T> batch, BufferedWriter errors) throws IOException {
+			BitSet duplicateEntities = batch.entities.isEmpty() ? new BitSet() : dao.registerAll(batch.entities);
+			int duplicateCount = duplicateEntities.cardinality();
+			registered += batch.entities.size() - duplicateCount;
+			duplicates += duplicateCount;
+			rejected += batch.rejectedLines.size();
+
+			int rejectedIndex = 0;
+			for (int duplicateIndex = duplicateEntities.nextSetBit(0); duplicateIndex >= 0; duplicateIndex = duplicateEntities
+					.nextSetBit(duplicateIndex + 1)) {
+				int lineIndex = batch.entityLineIndex(duplicateIndex);
+				while (rejectedIndex < batch.rejectedLines.size()
+						&& batch.rejectedLineIndexes[rejectedIndex] < lineIndex) {
+					writeError(errors, batch.rejectedLineIndexes[rejectedIndex], batch.rejectedReasons.get(rejectedIndex),
+							batch.rejectedLines.get(rejectedIndex));
+					rejectedIndex++;
+				}
+				writeError(errors, lineIndex, DUPLICATE_REASON, batch.entityLine(duplicateIndex));
+			}
+			for (; rejectedIndex < batch.rejectedLines.size(); rejectedIndex++) {
+				writeError(errors, batch.rejectedLineIndexes[rejectedIndex], batch.rejectedReasons.get(rejectedIndex),
+						batch.rejectedLines.get(rejectedIndex));
+			}
+			lines += batch.lineCount;
+		}
+
+		private void writeError(BufferedWriter errors, int lineIndex, String reason, String line) throws IOException {
+			errors.append(Long.toString(lines + lineIndex + 1)).append('\t').append(reason).append('\t').append(line);
+			errors.newLine();
+		}
+	}
+
+	/** @return The length of the prefix ending at the last line break, or -1. */
+	private static int lastLineBreak(byte[] bytes, int length) {
+		for (int i = length - 1; i >= 0; i--) {
+			if (bytes[i] == '\n') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,40 @@
+package br.com.eaugusto.reflections.annotations.bulk;
+
+import br.com.eaugusto.reflections.annotations.domain.Client;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Record mappers for the entities of the application, following the same
+ * rules as the interactive registration: fields are separated by commas in
+ * the constructor order, each field is trimmed, and empty or missing fields
+ * become {@value RecordParser#NOT_INFORMED}. Extra fields are ignored.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityRecords {
+
+	/**
+	 * Maps {@code Nome, CPF, Telefone, Endereço, Número, Cidade, Estado} lines.
+	 */
+	public static final RecordMapper<Client> CLIENT = record -> new Client(record.text(0), record.text(1),
+			record.text(2), record.text(3), record.text(4), record.text(5), record.text(6));
+
+	/**
+	 * Maps {@code Nome, Código, Descrição, Valor, Marca} lines; lines whose
+	 * value is not a number are rejected.
+	 */
+	public static final RecordMapper<Product> PRODUCT = record -> {
+		double value;
+		try {
+			value = record.number(3);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Valor inválido para o campo 'Valor': " + record.text(3), e);
+		}
+		return new Product(record.text(0), record.text(1), record.text(2), value, record.text(4));
+	};
+
+	private EntityRecords() {
+
+	}
+}
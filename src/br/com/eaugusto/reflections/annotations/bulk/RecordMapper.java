@@ -0,0 +1,24 @@
+package br.com.eaugusto.reflections.annotations.bulk;
+
+/**
+ * Turns one record of an import file, already split by a
+ * {@link RecordParser}, into an entity.
+ *
+ * @param <T> The type of entity produced.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@FunctionalInterface
+public interface RecordMapper<T> {
+
+	/**
+	 * Maps one record.
+	 *
+	 * @param record The fields of a non-blank line.
+	 * @return The entity it describes.
+	 * @throws IllegalArgumentException if the line must be rejected; the message
+	 *                                  is written to the error file.
+	 */
+	T map(RecordParser record);
+}
@@ -0,0 +1,230 @@
+package br.com.eaugusto.reflections.annotations.bulk;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Reusable parser of comma separated records, such as the lines typed in the
+ * registration dialogs or read by {@link CsvBulkLoader}.
+ *
+ * <p>
+ * {@link #parse(CharSequence)} scans the record once and only remembers where
+ * each field starts and ends, with the surrounding whitespace already left
+ * out the same way {@link String#trim()} does. Strings are created only when
+ * {@link #text(int)} asks for one, and {@link #number(int)} reads the digits
+ * straight from the record. Fields that are empty or missing read as
+ * {@value #NOT_INFORMED}, so records with fewer fields than expected need no
+ * padding.
+ * </p>
+ *
+ * <p>
+ * Instances are not thread-safe; each thread should keep its own and reuse it
+ * across records.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class RecordParser {
+
+	/** Value given to empty or missing fields. */
+	public static final String NOT_INFORMED = "Não informado";
+
+	/** Largest mantissa every double represents exactly. */
+	private static final long EXACT_MANTISSA_LIMIT = 1L << 53;
+
+	/** Powers of ten every double represents exactly. */
+	private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private CharSequence record = "";
+	private int[] starts = new int[8];
+	private int[] ends = new int[8];
+	private int fieldCount;
+
+	/**
+	 * Splits a record into its fields, replacing the previous record.
+	 *
+	 * @param record The record, without its line terminator.
+	 * @return This parser.
+	 */
+	public RecordParser parse(CharSequence record) {
+		this.record = record;
+		fieldCount = 0;
+		int length = record.length();
+		int start = 0;
+		while (true) {
+			int end = start;
+			while (end < length && record.charAt(end) != ',') {
+				end++;
+			}
+			addField(start, end);
+			if (end == length) {
+				return this;
+			}
+			start = end + 1;
+		}
+	}
+
+	private void addField(int start, int end) {
+		while (start < end && record.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && record.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (fieldCount == starts.length) {
+			starts = Arrays.copyOf(starts, fieldCount * 2);
+			ends = Arrays.copyOf(ends, fieldCount * 2);
+		}
+		starts[fieldCount] = start;
+		ends[fieldCount] = end;
+		fieldCount++;
+	}
+
+	/** @return The number of fields of the record, informed or not. */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/** @return Whether every field of the record is empty. */
+	public boolean isBlank() {
+		for (int i = 0; i < fieldCount; i++) {
+			if (starts[i] < ends[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param index The position of a field, starting at 0.
+	 * @return Whether the field exists and is not empty.
+	 */
+	public boolean isInformed(int index) {
+		return index < fieldCount && starts[index] < ends[index];
+	}
+
+	/**
+	 * Returns a field as text.
+	 *
+	 * @param index The position of the field, starting at 0.
+	 * @return The trimmed field, or {@value #NOT_INFORMED} if it is empty or
+	 *         missing.
+	 */
+	public String text(int index) {
+		if (!isInformed(index)) {
+			return NOT_INFORMED;
+		}
+		int start = starts[index];
+		int end = ends[index];
+		if (record instanceof CharBuffer && ((CharBuffer) record).hasArray()) {
+			CharBuffer buffer = (CharBuffer) record;
+			return new String(buffer.array(), buffer.arrayOffset() + buffer.position() + start, end - start);
+		}
+		return record.subSequence(start, end).toString();
+	}
+
+	/**
+	 * Returns a field as a {@code double}, accepting the same syntax as
+	 * {@link Double#parseDouble(String)}.
+	 *
+	 * <p>
+	 * Plain decimals with up to 15 significant digits, such as prices, are
+	 * converted without creating any object and with the same result as
+	 * {@link Double#parseDouble(String)}; any other syntax is handed to it.
+	 * </p>
+	 *
+	 * @param index The position of the field, starting at 0.
+	 * @return The value of the field.
+	 * @throws NumberFormatException if the field is missing or not a number.
+	 */
+	public double number(int index) {
+		if (!isInformed(index)) {
+			throw new NumberFormatException("Campo " + (index + 1) + " não informado");
+		}
+		int start = starts[index];
+		int end = ends[index];
+		double value = parseSimpleDecimal(start, end);
+		if (Double.isNaN(value)) {
+			value = Double.parseDouble(record.subSequence(start, end).toString());
+		}
+		return value;
+	}
+
+	/**
+	 * Converts {@code [+-]digits[.digits][(e|E)[+-]digits]} exactly when the
+	 * mantissa and the power of ten are both exact doubles, which makes a single
+	 * multiplication or division correctly rounded.
+	 *
+	 * @return The value, or {@link Double#NaN} if the slice needs the full
+	 *         parser.
+	 */
+	private double parseSimpleDecimal(int start, int end) {
+		int position = start;
+		boolean negative = false;
+		char current = record.charAt(position);
+		if (current == '-' || current == '+') {
+			negative = current == '-';
+			position++;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean fraction = false;
+		for (; position < end; position++) {
+			current = record.charAt(position);
+			if (current >= '0' && current <= '9') {
+				mantissa = mantissa * 10 + (current - '0');
+				if (mantissa >= EXACT_MANTISSA_LIMIT) {
+					return Double.NaN;
+				}
+				digits++;
+				if (fraction) {
+					exponent--;
+				}
+			} else if (current == '.' && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}
+		}
+		if (digits == 0) {
+			return Double.NaN;
+		}
+
+		if (position < end) {
+			if (current != 'e' && current != 'E' || ++position == end) {
+				return Double.NaN;
+			}
+			boolean negativeExponent = false;
+			current = record.charAt(position);
+			if (current == '-' || current == '+') {
+				negativeExponent = current == '-';
+				if (++position == end) {
+					return Double.NaN;
+				}
+			}
+			int written = 0;
+			for (; position < end; position++) {
+				current = record.charAt(position);
+				if (current < '0' || current > '9' || written > 1000) {
+					return Double.NaN;
+				}
+				written = written * 10 + (current - '0');
+			}
+			exponent += negativeExponent ? -written : written;
+		}
+
+		double value;
+		if (exponent >= 0 && exponent < EXACT_POWERS_OF_TEN.length) {
+			value = mantissa * EXACT_POWERS_OF_TEN[exponent];
+		} else if (exponent < 0 && -exponent < EXACT_POWERS_OF_TEN.length) {
+			value = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+		} else {
+			return Double.NaN;
+		}
+		return negative ? -value : value;
+	}
+}
@@ -0,0 +1,115 @@
+package br.com.eaugusto.reflections.annotations.codec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded;
+
+/**
+ * Dictionary metadata of an entity class: the fields annotated with
+ * {@link DictionaryEncoded}, a {@link VarHandle} for each of them and the
+ * {@link ValueDictionary} shared by every DAO storing that class.
+ *
+ * <p>
+ * The fields are discovered by reflection once per class and cached in a
+ * {@link ClassValue}, so the dictionaries live as long as the class and are
+ * shared by all its DAOs.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class DictionaryEncodedFields {
+
+	private static final ClassValue<DictionaryEncodedFields> METADATA = new ClassValue<>() {
+		@Override
+		protected DictionaryEncodedFields computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	private final String[] names;
+	private final VarHandle[] handles;
+	private final ValueDictionary[] dictionaries;
+
+	private DictionaryEncodedFields(String[] names, VarHandle[] handles) {
+		this.names = names;
+		this.handles = handles;
+		this.dictionaries = new ValueDictionary[names.length];
+		for (int i = 0; i < dictionaries.length; i++) {
+			dictionaries[i] = new ValueDictionary();
+		}
+	}
+
+	/**
+	 * Returns the cached dictionary metadata for the given entity class.
+	 *
+	 * @param type The entity class.
+	 * @return The metadata for that class, possibly with no encoded fields.
+	 */
+	public static DictionaryEncodedFields of(Class<?> type) {
+		return METADATA.get(type);
+	}
+
+	/** @return true if the class has no dictionary-encoded field. */
+	public boolean isEmpty() {
+		return names.length == 0;
+	}
+
+	/**
+	 * Returns the dictionary of a field.
+	 *
+	 * @param fieldName The name of the field.
+	 * @return Its dictionary, or null if the field is not dictionary-encoded.
+	 */
+	public ValueDictionary dictionary(String fieldName) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(fieldName)) {
+				return dictionaries[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replaces the value of every dictionary-encoded field of the entity with its
+	 * canonical instance, adding new values to the dictionaries.
+	 *
+	 * @param entity The entity entering a DAO.
+	 */
+	public void canonicalize(Object entity) {
+		for (int i = 0; i < handles.length; i++) {
+			String value = (String) handles[i].get(entity);
+			String canonical = dictionaries[i].canonicalize(value);
+			if (canonical != value) {
+				handles[i].set(entity, canonical);
+			}
+		}
+	}
+
+	private static DictionaryEncodedFields resolve(Class<?> type) {
+		List<String> names = new ArrayList<>();
+		List<VarHandle> handles = new ArrayList<>();
+
+		for (Field eachField : type.getDeclaredFields()) {
+			if (!eachField.isAnnotationPresent(DictionaryEncoded.class)) {
+				continue;
+			}
+			if (eachField.getType() != String.class) {
+				throw new IllegalStateException("Campo '" + eachField.getName() + "' da classe "
+						+ type.getSimpleName() + " precisa ser String para usar @DictionaryEncoded");
+			}
+			try {
+				handles.add(MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectVarHandle(eachField));
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Não foi possível acessar o campo '" + eachField.getName()
+						+ "' da classe " + type.getSimpleName(), e);
+			}
+			names.add(eachField.getName());
+		}
+		return new DictionaryEncodedFields(names.toArray(new String[0]), handles.toArray(new VarHandle[0]));
+	}
+}
@@ -0,0 +1,502 @@
+package br.com.eaugusto.reflections.annotations.codec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Binary codec for {@link Persistable} entities derived from their fields by
+ * reflection.
+ *
+ * <p>
+ * The non-static, non-transient fields of the entity class are discovered once
+ * per class and ordered by name, and each is bound to a {@link VarHandle}. The
+ * resulting codec is cached in a {@link ClassValue}, see {@link #of(Class)}.
+ * Strings are written as a length-prefixed UTF-8 sequence (length {@code -1}
+ * for {@code null}) and primitives in their raw {@link ByteBuffer}
+ * representation. Encoding writes UTF-8 straight into the target buffer and
+ * allocates nothing; decoding requires a public no-argument constructor.
+ * </p>
+ *
+ * <p>
+ * Each codec has a {@link #getFingerprint() schema fingerprint} computed from
+ * the names and types of the encoded fields. Stores persist it next to the
+ * encoded data and compare it when reading, so data written with a different
+ * version of the entity class is detected instead of being misread.
+ * </p>
+ *
+ * <p>
+ * {@link #dictionaryEncoded(Class)} returns a variant for in-memory stores that
+ * writes fields annotated with
+ * {@link br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded}
+ * as the 4-byte code of their {@link ValueDictionary} instead of their
+ * characters. Those codes are local to the process, so that variant must never
+ * be used for persisted data; its fingerprint differs from the plain codec's.
+ * </p>
+ *
+ * @param <T> The type of persistable entity encoded.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class EntityCodec<T extends Persistable> {
+
+	private static final byte STRING = 0;
+	private static final byte DOUBLE = 1;
+	private static final byte INT = 2;
+	private static final byte LONG = 3;
+	private static final byte FLOAT = 4;
+	private static final byte SHORT = 5;
+	private static final byte CHAR = 6;
+	private static final byte BYTE = 7;
+	private static final byte BOOLEAN = 8;
+	private static final byte DICTIONARY = 9;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private static final ClassValue<EntityCodec<?>> CODECS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		protected EntityCodec<?> computeValue(Class<?> type) {
+			return new EntityCodec(type.asSubclass(Persistable.class), false);
+		}
+	};
+
+	private static final ClassValue<EntityCodec<?>> DICTIONARY_CODECS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		protected EntityCodec<?> computeValue(Class<?> type) {
+			return new EntityCodec(type.asSubclass(Persistable.class), true);
+		}
+	};
+
+	private final Class<T> entityClass;
+	private final MethodHandle constructor;
+	private final byte[] kinds;
+	private final VarHandle[] handles;
+	private final String[] names;
+	private final ValueDictionary[] dictionaries;
+	private final long fingerprint;
+
+	private EntityCodec(Class<T> entityClass, boolean useDictionaries) {
+		this.entityClass = entityClass;
+
+		List<Field> encodedFields = new ArrayList<>();
+		for (Field eachField : entityClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(eachField.getModifiers()) && !Modifier.isTransient(eachField.getModifiers())) {
+				encodedFields.add(eachField);
+			}
+		}
+		encodedFields.sort(Comparator.comparing(Field::getName));
+
+		this.kinds = new byte[encodedFields.size()];
+		this.handles = new VarHandle[encodedFields.size()];
+		this.names = new String[encodedFields.size()];
+		this.dictionaries = new ValueDictionary[encodedFields.size()];
+		DictionaryEncodedFields dictionaryFields = DictionaryEncodedFields.of(entityClass);
+		long hash = FNV_OFFSET;
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+			this.constructor = lookup.findConstructor(entityClass, MethodType.methodType(void.class))
+					.asType(MethodType.methodType(Object.class));
+
+			for (int i = 0; i < kinds.length; i++) {
+				Field eachField = encodedFields.get(i);
+				kinds[i] = kindOf(eachField);
+				handles[i] = lookup.unreflectVarHandle(eachField);
+				names[i] = eachField.getName();
+				dictionaries[i] = useDictionaries ? dictionaryFields.dictionary(names[i]) : null;
+				if (dictionaries[i] != null) {
+					kinds[i] = DICTIONARY;
+				}
+				hash = fnv(hash, names[i] + ':' + (dictionaries[i] != null ? "#" : "") + eachField.getType().getName()
+						+ ';');
+			}
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(
+					"Classe " + entityClass.getSimpleName() + " precisa de um construtor público sem argumentos", e);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Não foi possível acessar os campos da classe " + entityClass.getSimpleName(),
+					e);
+		}
+		this.fingerprint = hash;
+	}
+
+	/**
+	 * Returns the cached codec for the given entity class, creating it on first
+	 * use.
+	 *
+	 * @param <T>         The type of persistable entity encoded.
+	 * @param entityClass The entity class.
+	 * @return The codec for that class.
+	 * @throws IllegalStateException if the class has no public no-argument
+	 *                               constructor or a field of unsupported type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Persistable> EntityCodec<T> of(Class<T> entityClass) {
+		return (EntityCodec<T>) CODECS.get(entityClass);
+	}
+
+	/**
+	 * Returns the cached in-memory codec for the given entity class, which stores
+	 * dictionary-encoded fields as codes. Its output must not be persisted.
+	 *
+	 * @param <T>         The type of persistable entity encoded.
+	 * @param entityClass The entity class.
+	 * @return The dictionary-encoding codec for that class.
+	 * @throws IllegalStateException if the class has no public no-argument
+	 *                               constructor or a field of unsupported type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Persistable> EntityCodec<T> dictionaryEncoded(Class<T> entityClass) {
+		return (EntityCodec<T>) DICTIONARY_CODECS.get(entityClass);
+	}
+
+	/** @return The entity class handled by this codec. */
+	public Class<T> getEntityClass() {
+		return entityClass;
+	}
+
+	/**
+	 * Returns the schema fingerprint of this codec: a 64-bit FNV-1a hash of the
+	 * name and type of every encoded field, in encoding order.
+	 *
+	 * @return The schema fingerprint.
+	 */
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Checks that data written with the given fingerprint can be read by this
+	 * codec.
+	 *
+	 * @param storedFingerprint The fingerprint persisted with the data.
+	 * @param source            Description of the data source, for the error
+	 *                          message.
+	 * @throws IllegalStateException if the fingerprints differ.
+	 */
+	public void checkFingerprint(long storedFingerprint, Object source) {
+		if (storedFingerprint != fingerprint) {
+			throw new IllegalStateException("Esquema de " + entityClass.getSimpleName() + " em " + source
+					+ " não corresponde à classe atual (impressão digital " + Long.toHexString(storedFingerprint)
+					+ ", esperada " + Long.toHexString(fingerprint) + ")");
+		}
+	}
+
+	/**
+	 * Computes the number of bytes {@link #encode(Persistable, ByteBuffer)} writes
+	 * for the given entity, without allocating.
+	 *
+	 * @param entity The entity to measure.
+	 * @return The encoded size in bytes.
+	 */
+	public int encodedSize(T entity) {
+		int size = 0;
+		for (int i = 0; i < kinds.length; i++) {
+			switch (kinds[i]) {
+			case STRING:
+				size += Integer.BYTES + utf8Length((String) handles[i].get(entity));
+				break;
+			case DOUBLE:
+			case LONG:
+				size += Long.BYTES;
+				break;
+			case INT:
+			case FLOAT:
+			case DICTIONARY:
+				size += Integer.BYTES;
+				break;
+			case SHORT:
+			case CHAR:
+				size += Short.BYTES;
+				break;
+			default:
+				size += Byte.BYTES;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Writes the entity at the current position of the buffer, without
+	 * allocating.
+	 *
+	 * @param entity The entity to encode.
+	 * @param target The buffer to write to.
+	 * @throws java.nio.BufferOverflowException if the buffer has not enough room.
+	 */
+	public void encode(T entity, ByteBuffer target) {
+		for (int i = 0; i < kinds.length; i++) {
+			VarHandle handle = handles[i];
+			switch (kinds[i]) {
+			case STRING:
+				putString(target, (String) handle.get(entity));
+				break;
+			case DOUBLE:
+				target.putDouble((double) handle.get(entity));
+				break;
+			case INT:
+				target.putInt((int) handle.get(entity));
+				break;
+			case LONG:
+				target.putLong((long) handle.get(entity));
+				break;
+			case FLOAT:
+				target.putFloat((float) handle.get(entity));
+				break;
+			case SHORT:
+				target.putShort((short) handle.get(entity));
+				break;
+			case CHAR:
+				target.putChar((char) handle.get(entity));
+				break;
+			case BYTE:
+				target.put((byte) handle.get(entity));
+				break;
+			case DICTIONARY:
+				target.putInt(dictionaries[i].encode((String) handle.get(entity)));
+				break;
+			default:
+				target.put((boolean) handle.get(entity) ? (byte) 1 : (byte) 0);
+			}
+		}
+	}
+
+	/**
+	 * Reads an entity from the current position of the buffer.
+	 *
+	 * @param source The buffer to read from.
+	 * @return A new entity instance.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends too early.
+	 */
+	public T decode(ByteBuffer source) {
+		T entity = newInstance();
+		for (int i = 0; i < kinds.length; i++) {
+			VarHandle handle = handles[i];
+			switch (kinds[i]) {
+			case STRING:
+				handle.set(entity, getString(source));
+				break;
+			case DOUBLE:
+				handle.set(entity, source.getDouble());
+				break;
+			case INT:
+				handle.set(entity, source.getInt());
+				break;
+			case LONG:
+				handle.set(entity, source.getLong());
+				break;
+			case FLOAT:
+				handle.set(entity, source.getFloat());
+				break;
+			case SHORT:
+				handle.set(entity, source.getShort());
+				break;
+			case CHAR:
+				handle.set(entity, source.getChar());
+				break;
+			case BYTE:
+				handle.set(entity, source.get());
+				break;
+			case DICTIONARY:
+				handle.set(entity, dictionaries[i].decode(source.getInt()));
+				break;
+			default:
+				handle.set(entity, source.get() != 0);
+			}
+		}
+		return entity;
+	}
+
+	/**
+	 * Returns the dictionary used for a field by this codec.
+	 *
+	 * @param fieldName The name of the field.
+	 * @return Its dictionary, or null if this codec writes the field as is.
+	 */
+	public ValueDictionary dictionary(String fieldName) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(fieldName)) {
+				return dictionaries[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the dictionary code of a field from an encoded entity without
+	 * decoding it: the preceding fields are skipped by their size.
+	 *
+	 * @param source    The encoded entity, positioned at its start; the position
+	 *                  is left unchanged.
+	 * @param fieldName The name of a field this codec writes as a code.
+	 * @return The code stored for the field.
+	 * @throws IllegalArgumentException if this codec does not write the field as
+	 *                                  a code.
+	 */
+	public int readCode(ByteBuffer source, String fieldName) {
+		int position = source.position();
+		for (int i = 0; i < kinds.length; i++) {
+			if (kinds[i] == DICTIONARY && names[i].equals(fieldName)) {
+				return source.getInt(position);
+			}
+			switch (kinds[i]) {
+			case STRING:
+				position += Integer.BYTES + Math.max(0, source.getInt(position));
+				break;
+			case DOUBLE:
+			case LONG:
+				position += Long.BYTES;
+				break;
+			case INT:
+			case FLOAT:
+			case DICTIONARY:
+				position += Integer.BYTES;
+				break;
+			case SHORT:
+			case CHAR:
+				position += Short.BYTES;
+				break;
+			default:
+				position += Byte.BYTES;
+			}
+		}
+		throw new IllegalArgumentException(
+				"Campo '" + fieldName + "' da classe " + entityClass.getSimpleName() + " não é codificado por dicionário");
+	}
+
+	@SuppressWarnings("unchecked")
+	private T newInstance() {
+		try {
+			return (T) (Object) constructor.invokeExact();
+		} catch (Throwable e) {
+			throw new IllegalStateException("Não foi possível recriar uma instância de " + entityClass.getSimpleName(),
+					e);
+		}
+	}
+
+	/**
+	 * Number of bytes {@link #putString(ByteBuffer, String)} writes after the
+	 * length prefix. Unpaired surrogates count as the single byte {@code '?'},
+	 * matching {@link String#getBytes(java.nio.charset.Charset)}.
+	 */
+	private static int utf8Length(String value) {
+		if (value == null) {
+			return 0;
+		}
+		int length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				length++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	private static void putString(ByteBuffer target, String value) {
+		if (value == null) {
+			target.putInt(-1);
+			return;
+		}
+
+		target.putInt(utf8Length(value));
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				target.put((byte) c);
+			} else if (c < 0x800) {
+				target.put((byte) (0xC0 | (c >> 6)));
+				target.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				target.put((byte) (0xF0 | (codePoint >> 18)));
+				target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				target.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				target.put((byte) '?');
+			} else {
+				target.put((byte) (0xE0 | (c >> 12)));
+				target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				target.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	private static String getString(ByteBuffer source) {
+		int length = source.getInt();
+		if (length < 0) {
+			return null;
+		}
+
+		String value;
+		if (source.hasArray()) {
+			value = new String(source.array(), source.arrayOffset() + source.position(), length,
+					StandardCharsets.UTF_8);
+		} else {
+			byte[] bytes = new byte[length];
+			source.get(source.position(), bytes);
+			value = new String(bytes, StandardCharsets.UTF_8);
+		}
+		source.position(source.position() + length);
+		return value;
+	}
+
+	private static byte kindOf(Field field) {
+		Class<?> type = field.getType();
+		if (type == String.class) {
+			return STRING;
+		} else if (type == double.class) {
+			return DOUBLE;
+		} else if (type == int.class) {
+			return INT;
+		} else if (type == long.class) {
+			return LONG;
+		} else if (type == float.class) {
+			return FLOAT;
+		} else if (type == short.class) {
+			return SHORT;
+		} else if (type == char.class) {
+			return CHAR;
+		} else if (type == byte.class) {
+			return BYTE;
+		} else if (type == boolean.class) {
+			return BOOLEAN;
+		}
+		throw new IllegalStateException("Campo '" + field.getName() + "' da classe "
+				+ field.getDeclaringClass().getSimpleName() + " tem tipo não suportado: " + type.getSimpleName());
+	}
+
+	private static long fnv(long hash, String text) {
+		for (int i = 0; i < text.length(); i++) {
+			hash ^= text.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,529 @@
+package br.com.eaugusto.reflections.annotations.codec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * JSON codec for {@link Persistable} entities derived from their fields by
+ * reflection.
+ *
+ * <p>
+ * Like {@link EntityCodec}, the non-static, non-transient fields of the class
+ * are discovered once, bound to {@link VarHandle}s and cached in a
+ * {@link ClassValue}, see {@link #of(Class)}. An entity is written as a flat
+ * object whose members are its fields in declaration order; strings and
+ * primitives are supported. Reading accepts the members in any order, ignores
+ * unknown ones and, like the registration dialogs, stores
+ * {@value #NOT_INFORMED} in the string fields that are missing, {@code null}
+ * or blank. Reading requires a public no-argument constructor.
+ * </p>
+ *
+ * @param <T> The type of persistable entity encoded.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class JsonCodec<T extends Persistable> {
+
+	/** Value given to string fields that are missing or blank. */
+	public static final String NOT_INFORMED = "Não informado";
+
+	private static final byte STRING = 0;
+	private static final byte DOUBLE = 1;
+	private static final byte FLOAT = 2;
+	private static final byte LONG = 3;
+	private static final byte INT = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte CHAR = 7;
+	private static final byte BOOLEAN = 8;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private static final ClassValue<JsonCodec<?>> CODECS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		protected JsonCodec<?> computeValue(Class<?> type) {
+			return new JsonCodec(type.asSubclass(Persistable.class));
+		}
+	};
+
+	private final Class<T> entityClass;
+	private final MethodHandle constructor;
+	private final byte[] kinds;
+	private final VarHandle[] handles;
+	private final String[] names;
+	/** The names already quoted and followed by a colon. */
+	private final char[][] memberPrefixes;
+	private final int keyIndex;
+
+	private JsonCodec(Class<T> entityClass) {
+		this.entityClass = entityClass;
+
+		List<Field> fields = new ArrayList<>();
+		for (Field eachField : entityClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(eachField.getModifiers()) && !Modifier.isTransient(eachField.getModifiers())) {
+				fields.add(eachField);
+			}
+		}
+
+		this.kinds = new byte[fields.size()];
+		this.handles = new VarHandle[fields.size()];
+		this.names = new String[fields.size()];
+		this.memberPrefixes = new char[fields.size()][];
+		int key = -1;
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(entityClass, MethodHandles.lookup());
+			this.constructor = lookup.findConstructor(entityClass, MethodType.methodType(void.class))
+					.asType(MethodType.methodType(Object.class));
+
+			for (int i = 0; i < kinds.length; i++) {
+				Field eachField = fields.get(i);
+				kinds[i] = kindOf(eachField);
+				handles[i] = lookup.unreflectVarHandle(eachField);
+				names[i] = eachField.getName();
+				memberPrefixes[i] = ((i == 0 ? "\"" : ",\"") + names[i] + "\":").toCharArray();
+				if (eachField.isAnnotationPresent(KeyType.class) && kinds[i] == STRING) {
+					key = i;
+				}
+			}
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(
+					"Classe " + entityClass.getSimpleName() + " precisa de um construtor público sem argumentos", e);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Não foi possível acessar os campos da classe " + entityClass.getSimpleName(),
+					e);
+		}
+		this.keyIndex = key;
+	}
+
+	/**
+	 * Returns the cached codec for the given entity class, creating it on first
+	 * use.
+	 *
+	 * @param <T>         The entity type.
+	 * @param entityClass The entity class.
+	 * @return The codec.
+	 * @throws IllegalStateException if the class has no public no-argument
+	 *                               constructor or a field of unsupported type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Persistable> JsonCodec<T> of(Class<T> entityClass) {
+		return (JsonCodec<T>) CODECS.get(entityClass);
+	}
+
+	/**
+	 * Appends an entity as a JSON object.
+	 *
+	 * @param entity The entity.
+	 * @param out    Receives the object.
+	 */
+	public void write(T entity, StringBuilder out) {
+		out.append('{');
+		for (int i = 0; i < kinds.length; i++) {
+			out.append(memberPrefixes[i]);
+			switch (kinds[i]) {
+			case STRING:
+				writeString((String) handles[i].get(entity), out);
+				break;
+			case DOUBLE:
+				writeNumber((double) handles[i].get(entity), out);
+				break;
+			case FLOAT:
+				writeNumber((float) handles[i].get(entity), out);
+				break;
+			case LONG:
+				out.append((long) handles[i].get(entity));
+				break;
+			case INT:
+				out.append((int) handles[i].get(entity));
+				break;
+			case SHORT:
+				out.append((short) handles[i].get(entity));
+				break;
+			case BYTE:
+				out.append((byte) handles[i].get(entity));
+				break;
+			case CHAR:
+				writeString(String.valueOf((char) handles[i].get(entity)), out);
+				break;
+			default:
+				out.append((boolean) handles[i].get(entity));
+				break;
+			}
+		}
+		out.append('}');
+	}
+
+	/**
+	 * Writes an entity as a JSON object.
+	 *
+	 * @param entity The entity.
+	 * @return The object.
+	 */
+	public String write(T entity) {
+		StringBuilder out = new StringBuilder(128);
+		write(entity, out);
+		return out.toString();
+	}
+
+	/**
+	 * Reads an entity from a JSON object.
+	 *
+	 * @param json The object.
+	 * @return A new entity holding its members.
+	 * @throws IllegalArgumentException if the text is not a flat JSON object or a
+	 *                                  member does not fit its field.
+	 */
+	public T read(CharSequence json) {
+		T entity = newInstance();
+		boolean[] present = new boolean[kinds.length];
+		Reader reader = new Reader(json);
+		reader.expect('{');
+		if (!reader.consume('}')) {
+			do {
+				String name = reader.readString();
+				reader.expect(':');
+				int index = indexOf(name);
+				if (index < 0) {
+					reader.skipValue();
+				} else {
+					present[index] = true;
+					readMember(index, reader, entity);
+				}
+			} while (reader.consume(','));
+			reader.expect('}');
+		}
+		reader.expectEnd();
+
+		for (int i = 0; i < kinds.length; i++) {
+			if (kinds[i] == STRING && (!present[i] || isBlank((String) handles[i].get(entity)))) {
+				handles[i].set(entity, NOT_INFORMED);
+			}
+		}
+		return entity;
+	}
+
+	/**
+	 * Replaces the key of an entity, such as with the identifier of the resource
+	 * being updated.
+	 *
+	 * @param entity The entity.
+	 * @param key    The new key.
+	 * @throws IllegalStateException if the {@code KeyType} field is not a String
+	 *                               field of the class.
+	 */
+	public void setKey(T entity, String key) {
+		if (keyIndex < 0) {
+			throw new IllegalStateException(
+					"Classe " + entityClass.getSimpleName() + " não possui um campo String anotado com @KeyType");
+		}
+		handles[keyIndex].set(entity, key);
+	}
+
+	private void readMember(int index, Reader reader, T entity) {
+		VarHandle handle = handles[index];
+		if (reader.consumeNull()) {
+			if (kinds[index] != STRING) {
+				throw new IllegalArgumentException("Campo '" + names[index] + "' não pode ser nulo");
+			}
+			handle.set(entity, (String) null);
+			return;
+		}
+		try {
+			switch (kinds[index]) {
+			case STRING:
+				handle.set(entity, reader.readString());
+				break;
+			case DOUBLE:
+				handle.set(entity, Double.parseDouble(reader.readNumber()));
+				break;
+			case FLOAT:
+				handle.set(entity, Float.parseFloat(reader.readNumber()));
+				break;
+			case LONG:
+				handle.set(entity, Long.parseLong(reader.readNumber()));
+				break;
+			case INT:
+				handle.set(entity, Integer.parseInt(reader.readNumber()));
+				break;
+			case SHORT:
+				handle.set(entity, Short.parseShort(reader.readNumber()));
+				break;
+			case BYTE:
+				handle.set(entity, Byte.parseByte(reader.readNumber()));
+				break;
+			case CHAR:
+				String text = reader.readString();
+				if (text.length() != 1) {
+					throw new IllegalArgumentException("Campo '" + names[index] + "' deve ter um caractere");
+				}
+				handle.set(entity, text.charAt(0));
+				break;
+			default:
+				handle.set(entity, reader.readBoolean());
+				break;
+			}
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Valor inválido para o campo '" + names[index] + "'", e);
+		}
+	}
+
+	private int indexOf(String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T newInstance() {
+		try {
+			Object instance = constructor.invokeExact();
+			return (T) instance;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Não foi possível instanciar " + entityClass.getSimpleName(), e);
+		}
+	}
+
+	private static boolean isBlank(String text) {
+		return text == null || text.isBlank();
+	}
+
+	private static void writeNumber(double value, StringBuilder out) {
+		if (Double.isFinite(value)) {
+			out.append(value);
+		} else {
+			out.append("null");
+		}
+	}
+
+	private static void writeString(String text, StringBuilder out) {
+		if (text == null) {
+			out.append("null");
+			return;
+		}
+		out.append('"');
+		int copied = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char current = text.charAt(i);
+			if (current >= ' ' && current != '"' && current != '\\') {
+				continue;
+			}
+			out.append(text, copied, i);
+			copied = i + 1;
+			switch (current) {
+			case '"':
+				out.append("\\\"");
+				break;
+			case '\\':
+				out.append("\\\\");
+				break;
+			case '\n':
+				out.append("\\n");
+				break;
+			case '\r':
+				out.append("\\r");
+				break;
+			case '\t':
+				out.append("\\t");
+				break;
+			default:
+				out.append("\\u00").append(HEX_DIGITS[current >> 4]).append(HEX_DIGITS[current & 0xF]);
+				break;
+			}
+		}
+		out.append(text, copied, text.length()).append('"');
+	}
+
+	private static byte kindOf(Field field) {
+		Class<?> type = field.getType();
+		if (type == String.class) {
+			return STRING;
+		} else if (type == double.class) {
+			return DOUBLE;
+		} else if (type == float.class) {
+			return FLOAT;
+		} else if (type == long.class) {
+			return LONG;
+		} else if (type == int.class) {
+			return INT;
+		} else if (type == short.class) {
+			return SHORT;
+		} else if (type == byte.class) {
+			return BYTE;
+		} else if (type == char.class) {
+			return CHAR;
+		} else if (type == boolean.class) {
+			return BOOLEAN;
+		}
+		throw new IllegalStateException("Tipo não suportado no campo '" + field.getName() + "': " + type.getName());
+	}
+
+	/** Cursor over the text of a flat JSON object. */
+	private static final class Reader {
+
+		private final CharSequence text;
+		private int position;
+
+		Reader(CharSequence text) {
+			this.text = text;
+		}
+
+		void expect(char expected) {
+			if (!consume(expected)) {
+				throw error("'" + expected + "' esperado");
+			}
+		}
+
+		boolean consume(char expected) {
+			skipWhitespace();
+			if (position < text.length() && text.charAt(position) == expected) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		void expectEnd() {
+			skipWhitespace();
+			if (position != text.length()) {
+				throw error("conteúdo após o objeto");
+			}
+		}
+
+		boolean consumeNull() {
+			return consumeWord("null");
+		}
+
+		boolean readBoolean() {
+			if (consumeWord("true")) {
+				return true;
+			} else if (consumeWord("false")) {
+				return false;
+			}
+			throw error("booleano esperado");
+		}
+
+		String readNumber() {
+			skipWhitespace();
+			int start = position;
+			while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+				position++;
+			}
+			if (start == position) {
+				throw error("número esperado");
+			}
+			return text.subSequence(start, position).toString();
+		}
+
+		String readString() {
+			expect('"');
+			StringBuilder value = null;
+			int start = position;
+			while (position < text.length()) {
+				char current = text.charAt(position);
+				if (current == '"') {
+					String result = value == null ? text.subSequence(start, position).toString()
+							: value.append(text, start, position).toString();
+					position++;
+					return result;
+				}
+				if (current != '\\') {
+					position++;
+					continue;
+				}
+				if (value == null) {
+					value = new StringBuilder();
+				}
+				value.append(text, start, position);
+				if (++position >= text.length()) {
+					break;
+				}
+				char escaped = text.charAt(position++);
+				switch (escaped) {
+				case 'b':
+					value.append('\b');
+					break;
+				case 'f':
+					value.append('\f');
+					break;
+				case 'n':
+					value.append('\n');
+					break;
+				case 'r':
+					value.append('\r');
+					break;
+				case 't':
+					value.append('\t');
+					break;
+				case 'u':
+					if (position + 4 > text.length()) {
+						throw error("escape \\u incompleto");
+					}
+					try {
+						value.append((char) Integer.parseInt(text.subSequence(position, position + 4).toString(), 16));
+					} catch (NumberFormatException e) {
+						throw error("escape \\u inválido");
+					}
+					position += 4;
+					break;
+				default:
+					value.append(escaped);
+					break;
+				}
+				start = position;
+			}
+			throw error("texto não terminado");
+		}
+
+		void skipValue() {
+			skipWhitespace();
+			if (position >= text.length()) {
+				throw error("valor esperado");
+			}
+			char current = text.charAt(position);
+			if (current == '"') {
+				readString();
+			} else if (current == 't' || current == 'f') {
+				readBoolean();
+			} else if (!consumeNull()) {
+				readNumber();
+			}
+		}
+
+		private boolean consumeWord(String word) {
+			skipWhitespace();
+			int end = position + word.length();
+			if (end <= text.length() && text.subSequence(position, end).toString().equals(word)) {
+				position = end;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+		}
+
+		private IllegalArgumentException error(String problem) {
+			return new IllegalArgumentException("JSON inválido na posição " + position + ": " + problem);
+		}
+	}
+}
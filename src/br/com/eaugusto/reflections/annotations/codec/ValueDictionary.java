@@ -0,0 +1,100 @@
+package br.com.eaugusto.reflections.annotations.codec;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe dictionary assigning dense {@code int} codes to string values.
+ *
+ * <p>
+ * Codes start at 0 and are never reused or reassigned, so they can be stored
+ * in place of the values for the lifetime of the process. Lookups of known
+ * values are lock-free; only the first occurrence of a value takes a lock.
+ * {@code null} always has code {@value #NULL_CODE}. Codes are local to the
+ * process and must not be persisted.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class ValueDictionary {
+
+	/** Code of the {@code null} value. */
+	public static final int NULL_CODE = -1;
+
+	/** Returned by {@link #codeOf(String)} for values never encoded. */
+	public static final int UNKNOWN_CODE = Integer.MIN_VALUE;
+
+	private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<>();
+	private volatile String[] values = new String[64];
+	private int size;
+
+	/**
+	 * Returns the code of a value, assigning the next free code on its first
+	 * occurrence.
+	 *
+	 * @param value The value, possibly null.
+	 * @return Its code.
+	 */
+	public int encode(String value) {
+		if (value == null) {
+			return NULL_CODE;
+		}
+		Integer code = codes.get(value);
+		return code != null ? code : add(value);
+	}
+
+	/**
+	 * Looks up the code of a value without adding it.
+	 *
+	 * @param value The value, possibly null.
+	 * @return Its code, or {@link #UNKNOWN_CODE} if it was never encoded.
+	 */
+	public int codeOf(String value) {
+		if (value == null) {
+			return NULL_CODE;
+		}
+		Integer code = codes.get(value);
+		return code != null ? code : UNKNOWN_CODE;
+	}
+
+	/**
+	 * @param code A code returned by {@link #encode(String)}.
+	 * @return The canonical instance of the value it stands for.
+	 */
+	public String decode(int code) {
+		return code == NULL_CODE ? null : values[code];
+	}
+
+	/**
+	 * Returns the canonical instance of a value, so that equal values stored by
+	 * different entities share one {@code String}.
+	 *
+	 * @param value The value, possibly null.
+	 * @return The instance kept by the dictionary.
+	 */
+	public String canonicalize(String value) {
+		return decode(encode(value));
+	}
+
+	/** @return The number of distinct values encoded. */
+	public synchronized int size() {
+		return size;
+	}
+
+	private synchronized int add(String value) {
+		Integer existing = codes.get(value);
+		if (existing != null) {
+			return existing;
+		}
+		String[] current = values;
+		if (size == current.length) {
+			current = Arrays.copyOf(current, size * 2);
+		}
+		current[size] = value;
+		values = current;
+		codes.put(value, size);
+		return size++;
+	}
+}
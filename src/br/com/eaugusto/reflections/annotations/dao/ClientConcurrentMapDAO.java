@@ -0,0 +1,29 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.ConcurrentGenericMapDAO;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+
+/**
+ * Thread-Safe DAO Implementation For Managing Client Entities Using
+ * ConcurrentGenericMapDAO.
+ * 
+ * <p>
+ * This class specializes {@link ConcurrentGenericMapDAO} for {@link Client}
+ * entities and is a drop-in replacement for {@link ClientMapDAO} when the DAO is
+ * shared between threads.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ClientConcurrentMapDAO extends ConcurrentGenericMapDAO<Client> implements IClientDAO {
+
+	public ClientConcurrentMapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Client> getClassType() {
+		return Client.class;
+	}
+}
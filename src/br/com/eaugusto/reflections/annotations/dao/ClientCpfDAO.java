@@ -0,0 +1,112 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.eaugusto.reflections.annotations.codec.DictionaryEncodedFields;
+import br.com.eaugusto.reflections.annotations.dao.generic.EntityCopier;
+import br.com.eaugusto.reflections.annotations.dao.generic.KeyExtractor;
+import br.com.eaugusto.reflections.annotations.dao.primitive.CpfKeys;
+import br.com.eaugusto.reflections.annotations.dao.primitive.LongObjectHashMap;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+
+/**
+ * DAO Implementation For Managing Client Entities Keyed By Numeric CPF.
+ *
+ * <p>
+ * A client whose CPF is in the plain 11-digit form is kept in a
+ * {@link LongObjectHashMap} under the CPF parsed into a primitive
+ * {@code long}: no key {@code String}, no boxing and no per-entry node.
+ * {@code search} and {@code delete} parse their argument without allocating.
+ * Any other CPF, such as a formatted one ({@code 123.456.789-09}) or the
+ * {@code "Não informado"} placeholder, is kept as is in a {@link HashMap}.
+ * </p>
+ *
+ * <p>
+ * Keys are not canonicalized: as in {@link ClientMapDAO}, a client is found
+ * only by the exact CPF string it was registered with, and
+ * {@code "123.456.789-09"} and {@code "12345678909"} are different clients.
+ * This class is therefore a drop-in replacement for {@link ClientMapDAO} and,
+ * like it, is not thread-safe.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ClientCpfDAO implements IClientDAO {
+
+	private final LongObjectHashMap<Client> clients = new LongObjectHashMap<>();
+
+	/** Clients whose CPF is not in the plain 11-digit form, by exact CPF. */
+	private final Map<String, Client> otherClients = new HashMap<>();
+
+	@Override
+	public Boolean register(Client entity) {
+		String cpf = KeyExtractor.forClass(Client.class).extract(entity);
+		long key = CpfKeys.parse(cpf);
+		if (key == CpfKeys.INVALID ? otherClients.containsKey(cpf) : clients.containsKey(key)) {
+			return false;
+		}
+		DictionaryEncodedFields.of(Client.class).canonicalize(entity);
+		if (key == CpfKeys.INVALID) {
+			otherClients.put(cpf, entity);
+		} else {
+			clients.putIfAbsent(key, entity);
+		}
+		return true;
+	}
+
+	@Override
+	public void delete(String value) {
+		long key = CpfKeys.parse(value);
+		if (key != CpfKeys.INVALID) {
+			clients.remove(key);
+		} else if (value != null) {
+			otherClients.remove(value);
+		}
+	}
+
+	@Override
+	public void updateEntity(Client entity) {
+		Client registeredClient = search(KeyExtractor.forClass(Client.class).extract(entity));
+		if (registeredClient != null) {
+			DictionaryEncodedFields.of(Client.class).canonicalize(entity);
+			EntityCopier.forClass(Client.class).copy(entity, registeredClient);
+		}
+	}
+
+	@Override
+	public Client search(String value) {
+		long key = CpfKeys.parse(value);
+		if (key != CpfKeys.INVALID) {
+			return clients.get(key);
+		}
+		return value == null ? null : otherClients.get(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Returns a new collection; later changes to the DAO are not reflected.
+	 * </p>
+	 */
+	@Override
+	public Collection<Client> searchAll() {
+		if (otherClients.isEmpty()) {
+			return clients.values();
+		}
+		List<Client> all = new ArrayList<>(size());
+		all.addAll(clients.values());
+		all.addAll(otherClients.values());
+		return all;
+	}
+
+	/** @return The number of clients stored. */
+	public int size() {
+		return clients.size() + otherClients.size();
+	}
+}
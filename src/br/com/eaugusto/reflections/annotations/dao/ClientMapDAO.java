@@ -1,6 +1,7 @@
 package br.com.eaugusto.reflections.annotations.dao;
 
 import br.com.eaugusto.reflections.annotations.dao.generic.GenericMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.persistence.WriteAheadLog;
 import br.com.eaugusto.reflections.annotations.domain.Client;
 
 /**
@@ -10,7 +11,8 @@ import br.com.eaugusto.reflections.annotations.domain.Client;
  * This class specializes {@link GenericMapDAO} for {@link Client} entities.
  * </p>
  * 
- * It provides the concrete Class type and how to update client data.
+ * It provides the concrete Class type; client data is updated by the inherited
+ * {@link br.com.eaugusto.reflections.annotations.dao.generic.EntityCopier}.
  * 
  * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
  * @since May 21, 2025
@@ -21,13 +23,18 @@ public class ClientMapDAO extends GenericMapDAO<Client> implements IClientDAO {
 		super();
 	}
 
-	@Override
-	public Class<Client> getClassType() {
-		return Client.class;
+	/**
+	 * Creates a durable DAO that rebuilds its clients from the given log and appends
+	 * every change to it.
+	 * 
+	 * @param writeAheadLog The log to replay and append to.
+	 */
+	public ClientMapDAO(WriteAheadLog writeAheadLog) {
+		super(writeAheadLog);
 	}
 
 	@Override
-	public void updateRegisteredEntityWithNewData(Client newClientInformation, Client registeredClient) {
-		registeredClient.updateWith(newClientInformation);
+	public Class<Client> getClassType() {
+		return Client.class;
 	}
 }
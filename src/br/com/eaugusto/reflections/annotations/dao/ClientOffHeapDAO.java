@@ -0,0 +1,29 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.OffHeapGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+
+/**
+ * Off-Heap DAO Implementation For Managing Client Entities Using
+ * OffHeapGenericDAO.
+ * 
+ * <p>
+ * This class specializes {@link OffHeapGenericDAO} for {@link Client}
+ * entities and is a drop-in replacement for {@link ClientMapDAO} when millions
+ * of clients would otherwise crowd the heap.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ClientOffHeapDAO extends OffHeapGenericDAO<Client> implements IClientDAO {
+
+	public ClientOffHeapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Client> getClassType() {
+		return Client.class;
+	}
+}
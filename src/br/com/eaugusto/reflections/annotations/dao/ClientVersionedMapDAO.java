@@ -0,0 +1,31 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.VersionedGenericMapDAO;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+
+/**
+ * Thread-Safe DAO Implementation For Managing Versioned Client Entities Using
+ * VersionedGenericMapDAO.
+ * 
+ * <p>
+ * This class specializes {@link VersionedGenericMapDAO} for {@link Client}
+ * entities. Unlike {@link ClientConcurrentMapDAO}, it never updates a stored
+ * entity in place, so readers never see a partially applied update, and it
+ * offers optimistic {@code compareAndUpdate} for writers that must not
+ * overwrite each other.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ClientVersionedMapDAO extends VersionedGenericMapDAO<Client> implements IClientDAO {
+
+	public ClientVersionedMapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Client> getClassType() {
+		return Client.class;
+	}
+}
@@ -0,0 +1,202 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.eaugusto.reflections.annotations.dao.columnar.ColumnSummary;
+import br.com.eaugusto.reflections.annotations.dao.columnar.DictionaryColumn;
+import br.com.eaugusto.reflections.annotations.dao.columnar.DoubleColumn;
+import br.com.eaugusto.reflections.annotations.dao.generic.KeyExtractor;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Columnar DAO Implementation For Managing Product Entities.
+ *
+ * <p>
+ * Instead of one {@link Product} object per entry, this DAO stores each field
+ * in its own column: {@code value} in a primitive {@code double[]} and
+ * {@code brand} dictionary-encoded into an {@code int[]}. Reports such as the
+ * total inventory value, the average price per brand or the price histogram
+ * then run tight loops over the columns instead of walking
+ * {@link #searchAll()}.
+ * </p>
+ *
+ * <p>
+ * Rows are kept dense: deleting a product moves the last row into its place.
+ * {@code search} builds a new {@link Product} from the columns, so changing the
+ * returned object does not change the stored one until it is passed to
+ * {@code updateEntity}. This class is not thread-safe.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ProductColumnarDAO implements IProductDAO {
+
+	private static final String BRAND_FIELD = "brand";
+
+	private final Map<String, Integer> rowsByCode = new HashMap<>();
+	private String[] codes = new String[64];
+	private String[] names = new String[64];
+	private String[] descriptions = new String[64];
+	private final DoubleColumn values = new DoubleColumn();
+	private final DictionaryColumn brands = new DictionaryColumn();
+	private int rowCount;
+
+	@Override
+	public Boolean register(Product entity) {
+		String code = KeyExtractor.forClass(Product.class).extract(entity);
+		if (rowsByCode.containsKey(code)) {
+			return false;
+		}
+		if (rowCount == codes.length) {
+			int newCapacity = rowCount * 2;
+			codes = Arrays.copyOf(codes, newCapacity);
+			names = Arrays.copyOf(names, newCapacity);
+			descriptions = Arrays.copyOf(descriptions, newCapacity);
+		}
+		int row = rowCount++;
+		rowsByCode.put(code, row);
+		codes[row] = code;
+		writeRow(row, entity);
+		return true;
+	}
+
+	@Override
+	public void delete(String value) {
+		Integer row = rowsByCode.remove(value);
+		if (row == null) {
+			return;
+		}
+		int last = --rowCount;
+		if (row != last) {
+			codes[row] = codes[last];
+			names[row] = names[last];
+			descriptions[row] = descriptions[last];
+			values.move(last, row);
+			brands.move(last, row);
+			rowsByCode.put(codes[row], row);
+		}
+		codes[last] = null;
+		names[last] = null;
+		descriptions[last] = null;
+	}
+
+	@Override
+	public void updateEntity(Product entity) {
+		Integer row = rowsByCode.get(KeyExtractor.forClass(Product.class).extract(entity));
+		if (row != null) {
+			writeRow(row, entity);
+		}
+	}
+
+	@Override
+	public Product search(String value) {
+		Integer row = rowsByCode.get(value);
+		return row == null ? null : readRow(row);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Builds a new product for every row; prefer the aggregation methods for
+	 * reports.
+	 * </p>
+	 */
+	@Override
+	public Collection<Product> searchAll() {
+		List<Product> products = new ArrayList<>(rowCount);
+		for (int row = 0; row < rowCount; row++) {
+			products.add(readRow(row));
+		}
+		return products;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Filters on {@code brand} compare dictionary codes instead of strings.
+	 * </p>
+	 */
+	@Override
+	public Collection<Product> findBy(String fieldName, Object value) {
+		if (!BRAND_FIELD.equals(fieldName) || value != null && !(value instanceof String)) {
+			return IProductDAO.super.findBy(fieldName, value);
+		}
+		int code = brands.codeOf((String) value);
+		if (code == Integer.MIN_VALUE) {
+			return new ArrayList<>();
+		}
+		int[] rows = brands.rowsWithCode(code, rowCount);
+		List<Product> products = new ArrayList<>(rows.length);
+		for (int eachRow : rows) {
+			products.add(readRow(eachRow));
+		}
+		return products;
+	}
+
+	/** @return The number of products stored. */
+	public int count() {
+		return rowCount;
+	}
+
+	/** @return The sum of the values of every product. */
+	public double sumValue() {
+		return values.sum(rowCount);
+	}
+
+	/** @return The count, sum, minimum, maximum and average of all values. */
+	public ColumnSummary summarizeValue() {
+		return values.summarize(rowCount);
+	}
+
+	/**
+	 * Summarizes the values of the products of each brand in a single pass.
+	 *
+	 * @return The count, sum, minimum, maximum and average of the values by brand.
+	 */
+	public Map<String, ColumnSummary> summarizeValueByBrand() {
+		return values.summarizeBy(brands, rowCount);
+	}
+
+	/**
+	 * Counts the products priced between {@code min} and {@code max}, inclusive.
+	 *
+	 * @param min The lowest price.
+	 * @param max The highest price.
+	 * @return The number of matching products.
+	 */
+	public int countByValueRange(double min, double max) {
+		return values.countInRange(rowCount, min, max);
+	}
+
+	/**
+	 * Builds an equal-width price histogram.
+	 *
+	 * @param min     The start of the first bucket.
+	 * @param max     The end of the last bucket.
+	 * @param buckets The number of buckets.
+	 * @return The number of products in each bucket.
+	 * @throws IllegalArgumentException if the range or bucket count is invalid.
+	 */
+	public long[] valueHistogram(double min, double max, int buckets) {
+		return values.histogram(rowCount, min, max, buckets);
+	}
+
+	private void writeRow(int row, Product entity) {
+		names[row] = entity.getName();
+		descriptions[row] = entity.getDescription();
+		values.set(row, entity.getValue());
+		brands.set(row, entity.getBrand());
+	}
+
+	private Product readRow(int row) {
+		return new Product(names[row], codes[row], descriptions[row], values.get(row), brands.get(row));
+	}
+}
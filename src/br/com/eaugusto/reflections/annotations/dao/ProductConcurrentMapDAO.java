@@ -0,0 +1,29 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.ConcurrentGenericMapDAO;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Thread-Safe DAO Implementation For Managing Product Entities Using
+ * ConcurrentGenericMapDAO.
+ * 
+ * <p>
+ * This class specializes {@link ConcurrentGenericMapDAO} for {@link Product}
+ * entities and is a drop-in replacement for {@link ProductMapDAO} when the DAO
+ * is shared between threads.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ProductConcurrentMapDAO extends ConcurrentGenericMapDAO<Product> implements IProductDAO {
+
+	public ProductConcurrentMapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Product> getClassType() {
+		return Product.class;
+	}
+}
@@ -1,6 +1,9 @@
 package br.com.eaugusto.reflections.annotations.dao;
 
+import java.util.List;
+
 import br.com.eaugusto.reflections.annotations.dao.generic.GenericMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.persistence.WriteAheadLog;
 import br.com.eaugusto.reflections.annotations.domain.Product;
 
 /**
@@ -10,27 +13,95 @@ import br.com.eaugusto.reflections.annotations.domain.Product;
  * This class specializes {@link GenericMapDAO} for {@link Product} entities.
  * </p>
  * 
- * It provides the concrete Class type and updates product fields accordingly.
+ * It provides the concrete Class type; product fields are updated by the
+ * inherited {@link br.com.eaugusto.reflections.annotations.dao.generic.EntityCopier}.
+ * It also exposes price-range and ranking queries backed by the ordered index
+ * on {@link Product#getValue()}.
  * 
  * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
  * @since June 03, 2025
  */
 public class ProductMapDAO extends GenericMapDAO<Product> implements IProductDAO {
 
+	private static final String VALUE_FIELD = "value";
+	private static final String BRAND_FIELD = "brand";
+
 	public ProductMapDAO() {
 		super();
 	}
 
+	/**
+	 * Creates a durable DAO that rebuilds its products from the given log and appends
+	 * every change to it.
+	 * 
+	 * @param writeAheadLog The log to replay and append to.
+	 */
+	public ProductMapDAO(WriteAheadLog writeAheadLog) {
+		super(writeAheadLog);
+	}
+
 	@Override
 	public Class<Product> getClassType() {
 		return Product.class;
 	}
 
-	@Override
-	public void updateRegisteredEntityWithNewData(Product newEntity, Product registeredEntity) {
-		registeredEntity.setName(newEntity.getName());
-		registeredEntity.setDescription(newEntity.getDescription());
-		registeredEntity.setValue(newEntity.getValue());
-		registeredEntity.setBrand(newEntity.getBrand());
+	/**
+	 * Returns the products priced between {@code min} and {@code max}, inclusive,
+	 * from the cheapest to the most expensive.
+	 * 
+	 * @param min The lowest price.
+	 * @param max The highest price.
+	 * @return The matching products.
+	 */
+	public List<Product> findByValueRange(double min, double max) {
+		return findInRange(VALUE_FIELD, min, max);
+	}
+
+	/**
+	 * Counts the products priced between {@code min} and {@code max}, inclusive.
+	 * 
+	 * @param min The lowest price.
+	 * @param max The highest price.
+	 * @return The number of matching products.
+	 */
+	public int countByValueRange(double min, double max) {
+		return countInRange(VALUE_FIELD, min, max);
+	}
+
+	/**
+	 * Returns the most expensive products, from the most expensive down.
+	 * 
+	 * @param limit The maximum number of products to return.
+	 * @return Up to {@code limit} products.
+	 */
+	public List<Product> findMostExpensive(int limit) {
+		return findTop(VALUE_FIELD, limit);
+	}
+
+	/**
+	 * Returns the cheapest products, from the cheapest up.
+	 * 
+	 * @param limit The maximum number of products to return.
+	 * @return Up to {@code limit} products.
+	 */
+	public List<Product> findCheapest(int limit) {
+		return findBottom(VALUE_FIELD, limit);
+	}
+
+	/**
+	 * Returns the most expensive products of a brand, from the most expensive
+	 * down.
+	 * 
+	 * <p>
+	 * Read from the ordered price index kept for each brand, in O(log b + k) for
+	 * a brand of b products.
+	 * </p>
+	 * 
+	 * @param brand The brand to filter by.
+	 * @param limit The maximum number of products to return.
+	 * @return Up to {@code limit} products of the brand.
+	 */
+	public List<Product> findMostExpensiveByBrand(String brand, int limit) {
+		return findTopWhere(BRAND_FIELD, brand, VALUE_FIELD, limit);
 	}
 }
@@ -0,0 +1,29 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.OffHeapGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Off-Heap DAO Implementation For Managing Product Entities Using
+ * OffHeapGenericDAO.
+ * 
+ * <p>
+ * This class specializes {@link OffHeapGenericDAO} for {@link Product}
+ * entities and is a drop-in replacement for {@link ProductMapDAO} when millions
+ * of products would otherwise crowd the heap.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ProductOffHeapDAO extends OffHeapGenericDAO<Product> implements IProductDAO {
+
+	public ProductOffHeapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Product> getClassType() {
+		return Product.class;
+	}
+}
@@ -0,0 +1,31 @@
+package br.com.eaugusto.reflections.annotations.dao;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.VersionedGenericMapDAO;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Thread-Safe DAO Implementation For Managing Versioned Product Entities Using
+ * VersionedGenericMapDAO.
+ * 
+ * <p>
+ * This class specializes {@link VersionedGenericMapDAO} for {@link Product}
+ * entities. Unlike {@link ProductConcurrentMapDAO}, it never updates a stored
+ * entity in place, so readers never see a partially applied update, and it
+ * offers optimistic {@code compareAndUpdate} for writers that must not
+ * overwrite each other.
+ * </p>
+ * 
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ProductVersionedMapDAO extends VersionedGenericMapDAO<Product> implements IProductDAO {
+
+	public ProductVersionedMapDAO() {
+		super();
+	}
+
+	@Override
+	public Class<Product> getClassType() {
+		return Product.class;
+	}
+}
@@ -0,0 +1,72 @@
+package br.com.eaugusto.reflections.annotations.dao.cache;
+
+/**
+ * Counters of a {@link CachingDAO} at one point in time.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class CacheStats {
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final long discardedLoads;
+	private final int size;
+	private final long weight;
+
+	CacheStats(long hits, long misses, long evictions, long discardedLoads, int size, long weight) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.discardedLoads = discardedLoads;
+		this.size = size;
+		this.weight = weight;
+	}
+
+	/** @return The searches answered from the cache. */
+	public long getHits() {
+		return hits;
+	}
+
+	/** @return The searches that went to the wrapped DAO. */
+	public long getMisses() {
+		return misses;
+	}
+
+	/** @return The entries removed to stay within the maximum weight. */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return The entities loaded on a miss but not kept, because a write to
+	 *         their key could have made them stale.
+	 */
+	public long getDiscardedLoads() {
+		return discardedLoads;
+	}
+
+	/** @return The entries cached. */
+	public int getSize() {
+		return size;
+	}
+
+	/** @return The total weight of the cached entries. */
+	public long getWeight() {
+		return weight;
+	}
+
+	/** @return The fraction of searches answered from the cache, from 0 to 1. */
+	public double getHitRate() {
+		long searches = hits + misses;
+		return searches == 0 ? 0 : (double) hits / searches;
+	}
+
+	@Override
+	public String toString() {
+		return "Cache: hits=" + hits + ", misses=" + misses + ", hitRate="
+				+ String.format("%.1f%%", getHitRate() * 100) + ", evictions=" + evictions + ", discardedLoads="
+				+ discardedLoads + ", size=" + size + ", weight=" + weight;
+	}
+}
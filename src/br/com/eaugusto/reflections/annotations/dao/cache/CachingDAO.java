@@ -0,0 +1,326 @@
+package br.com.eaugusto.reflections.annotations.dao.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.KeyExtractor;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Decorator that keeps the most recently searched entities of another
+ * {@link IGenericDAO} in memory.
+ *
+ * <p>
+ * {@link #search(String)} answers from the cache when it can and otherwise
+ * reads through to the wrapped DAO, caching what it finds. A hit is one
+ * {@link ConcurrentHashMap} lookup plus setting the entry's reference bit, so
+ * it takes no lock. Registrations, updates and deletions are applied to the
+ * wrapped DAO first and then invalidate the cached entry of their key, so the
+ * next search reads the new state.
+ * </p>
+ *
+ * <p>
+ * The cache is bounded by a maximum weight, by default one per entry. When
+ * it is exceeded, entries are evicted with the CLOCK algorithm, an
+ * approximation of LRU: entries wait in a ring in insertion order, a hit sets
+ * their reference bit, and the eviction hand gives a second pass to entries
+ * whose bit is set, clearing it, while evicting the first one found unset.
+ * Only misses and writes take the lock guarding the ring.
+ * </p>
+ *
+ * <p>
+ * A miss that raced with a write to the same key could otherwise cache the
+ * entity read before the write. Writes therefore bump a stamp of the key's
+ * stripe and invalidate under the ring lock, and a loaded entity is published
+ * under the same lock only if the stamp of its stripe did not move during the
+ * load, so a search that starts after a write returns never sees an entity
+ * loaded before it. The decorator is as
+ * thread-safe as the DAO it wraps; {@link #searchAll()} and
+ * {@link #findBy(String, Object)} always go to the wrapped DAO.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by the wrapped DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class CachingDAO<T extends Persistable> implements IGenericDAO<T> {
+
+	private static final int STRIPES = 256;
+
+	/** One cached entity; {@code removed} is guarded by the ring lock. */
+	private static final class Entry<T> {
+
+		final String key;
+		final T value;
+		final int weight;
+		volatile boolean referenced;
+		boolean removed;
+
+		Entry(String key, T value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private final IGenericDAO<T> delegate;
+	private final long maximumWeight;
+	private final ToIntFunction<? super T> weigher;
+
+	private final ConcurrentHashMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+	private final AtomicLongArray writeStamps = new AtomicLongArray(STRIPES);
+
+	/** CLOCK ring, its head being the hand; guarded by itself. */
+	private final ArrayDeque<Entry<T>> ring = new ArrayDeque<>();
+	private long weight;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder discardedLoads = new LongAdder();
+
+	/**
+	 * Wraps a DAO, caching up to a number of entities.
+	 *
+	 * @param delegate       The DAO to cache.
+	 * @param maximumEntries The most entities kept.
+	 */
+	public CachingDAO(IGenericDAO<T> delegate, int maximumEntries) {
+		this(delegate, maximumEntries, entity -> 1);
+	}
+
+	/**
+	 * Wraps a DAO, caching entities up to a total weight.
+	 *
+	 * @param delegate      The DAO to cache.
+	 * @param maximumWeight The most total weight kept.
+	 * @param weigher       Gives the weight of an entity, such as its estimated
+	 *                      size in bytes; must not be negative.
+	 * @throws IllegalArgumentException if the maximum weight is not positive.
+	 */
+	public CachingDAO(IGenericDAO<T> delegate, long maximumWeight, ToIntFunction<? super T> weigher) {
+		if (maximumWeight <= 0) {
+			throw new IllegalArgumentException("O peso máximo do cache deve ser positivo: " + maximumWeight);
+		}
+		this.delegate = delegate;
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+	}
+
+	/** @return The wrapped DAO. */
+	public IGenericDAO<T> getDelegate() {
+		return delegate;
+	}
+
+	/** @return The current counters of the cache. */
+	public CacheStats getStats() {
+		long currentWeight;
+		synchronized (ring) {
+			currentWeight = weight;
+		}
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), discardedLoads.sum(), entries.size(),
+				currentWeight);
+	}
+
+	/** Empties the cache, keeping its counters. */
+	public void invalidateAll() {
+		synchronized (ring) {
+			for (int i = 0; i < STRIPES; i++) {
+				writeStamps.incrementAndGet(i);
+			}
+			entries.clear();
+			for (Entry<T> eachEntry : ring) {
+				eachEntry.removed = true;
+			}
+			ring.clear();
+			weight = 0;
+		}
+	}
+
+	@Override
+	public T search(String value) {
+		if (value == null) {
+			// Nothing is cached under a null key; the wrapped DAO decides what it means.
+			return delegate.search(null);
+		}
+		Entry<T> entry = entries.get(value);
+		if (entry != null) {
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+			hits.increment();
+			return entry.value;
+		}
+		misses.increment();
+		return load(value);
+	}
+
+	@Override
+	public List<T> searchMany(Collection<String> values) {
+		List<T> results = new ArrayList<>(values.size());
+		for (String eachValue : values) {
+			results.add(search(eachValue));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean register(T entity) {
+		Boolean isRegistered = delegate.register(entity);
+		invalidate(keyOf(entity));
+		return isRegistered;
+	}
+
+	@Override
+	public void delete(String value) {
+		delegate.delete(value);
+		invalidate(value);
+	}
+
+	@Override
+	public void updateEntity(T entity) {
+		delegate.updateEntity(entity);
+		invalidate(keyOf(entity));
+	}
+
+	@Override
+	public Collection<T> searchAll() {
+		return delegate.searchAll();
+	}
+
+	@Override
+	public Collection<T> findBy(String fieldName, Object value) {
+		return delegate.findBy(fieldName, value);
+	}
+
+	@Override
+	public BitSet registerAll(Collection<? extends T> entities) {
+		BitSet duplicates = delegate.registerAll(entities);
+		for (T eachEntity : entities) {
+			invalidate(keyOf(eachEntity));
+		}
+		return duplicates;
+	}
+
+	@Override
+	public BitSet deleteAll(Collection<String> values) {
+		BitSet deleted = delegate.deleteAll(values);
+		for (String eachValue : values) {
+			invalidate(eachValue);
+		}
+		return deleted;
+	}
+
+	@Override
+	public BitSet updateAll(Collection<? extends T> entities) {
+		BitSet updated = delegate.updateAll(entities);
+		for (T eachEntity : entities) {
+			invalidate(keyOf(eachEntity));
+		}
+		return updated;
+	}
+
+	/**
+	 * Reads an entity from the wrapped DAO and caches it, unless a write to its
+	 * stripe happened meanwhile.
+	 */
+	private T load(String key) {
+		int stripe = stripe(key);
+		long stamp = writeStamps.get(stripe);
+		T found = delegate.search(key);
+		if (found == null) {
+			return null;
+		}
+
+		Entry<T> entry = new Entry<>(key, found, weigher.applyAsInt(found));
+		if (entry.weight > maximumWeight) {
+			return found;
+		}
+		synchronized (ring) {
+			if (writeStamps.get(stripe) != stamp) {
+				// A write may have been missed by the load; let the next search read it.
+				discardedLoads.increment();
+				return found;
+			}
+			if (entries.putIfAbsent(key, entry) != null) {
+				return found;
+			}
+			ring.addLast(entry);
+			weight += entry.weight;
+			evictOverflow();
+			compactRing();
+		}
+		return found;
+	}
+
+	/**
+	 * Drops the cached entry of a key after a write to it. The stamp is bumped
+	 * under the ring lock so that a load of the key still in progress discards
+	 * its result instead of publishing it.
+	 */
+	private void invalidate(String key) {
+		if (key == null) {
+			return;
+		}
+		synchronized (ring) {
+			writeStamps.incrementAndGet(stripe(key));
+			Entry<T> entry = entries.remove(key);
+			// The eviction hand may have taken it already and released its weight.
+			if (entry != null && !entry.removed) {
+				entry.removed = true;
+				weight -= entry.weight;
+			}
+		}
+	}
+
+	/** Moves the CLOCK hand until the cache is back within its maximum weight. */
+	private void evictOverflow() {
+		while (weight > maximumWeight) {
+			Entry<T> candidate = ring.pollFirst();
+			if (candidate == null) {
+				return;
+			}
+			if (candidate.removed) {
+				continue;
+			}
+			if (candidate.referenced) {
+				candidate.referenced = false;
+				ring.addLast(candidate);
+				continue;
+			}
+			candidate.removed = true;
+			weight -= candidate.weight;
+			if (entries.remove(candidate.key, candidate)) {
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Removes invalidated entries from the ring once they outnumber the live
+	 * ones, so a cache that is written more than it is filled stays small.
+	 */
+	private void compactRing() {
+		if (ring.size() > 2 * entries.size() + 64) {
+			ring.removeIf(eachEntry -> eachEntry.removed);
+		}
+	}
+
+	private String keyOf(T entity) {
+		return KeyExtractor.forClass(entity.getClass()).extract(entity);
+	}
+
+	private static int stripe(String key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+	}
+}
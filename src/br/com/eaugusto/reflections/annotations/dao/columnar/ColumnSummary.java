@@ -0,0 +1,58 @@
+package br.com.eaugusto.reflections.annotations.dao.columnar;
+
+/**
+ * Count, sum, minimum and maximum of the values of a numeric column, over all
+ * of its rows or over the rows of one group.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class ColumnSummary {
+
+	private final long count;
+	private final double sum;
+	private final double min;
+	private final double max;
+
+	/**
+	 * Creates a summary.
+	 *
+	 * @param count The number of values.
+	 * @param sum   The sum of the values.
+	 * @param min   The smallest value, or {@code NaN} when there are none.
+	 * @param max   The largest value, or {@code NaN} when there are none.
+	 */
+	public ColumnSummary(long count, double sum, double min, double max) {
+		this.count = count;
+		this.sum = sum;
+		this.min = count == 0 ? Double.NaN : min;
+		this.max = count == 0 ? Double.NaN : max;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getSum() {
+		return sum;
+	}
+
+	public double getMin() {
+		return min;
+	}
+
+	public double getMax() {
+		return max;
+	}
+
+	/** @return The arithmetic mean of the values, or {@code NaN} when there are none. */
+	public double getAverage() {
+		return count == 0 ? Double.NaN : sum / count;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnSummary[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + ", avg="
+				+ getAverage() + "]";
+	}
+}
@@ -0,0 +1,131 @@
+package br.com.eaugusto.reflections.annotations.dao.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary-encoded column of strings.
+ *
+ * <p>
+ * Each distinct value receives a small {@code int} code the first time it is
+ * stored, and rows hold only the codes in a primitive {@code int[]}. Equality
+ * filters and group-by aggregations compare codes instead of strings.
+ * {@code null} is stored as code {@value #NULL_CODE}. Codes are never reused,
+ * so a value stays in the dictionary after its last row is removed.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class DictionaryColumn {
+
+	/** Code of the {@code null} value. */
+	public static final int NULL_CODE = -1;
+
+	private final Map<String, Integer> codesByValue = new HashMap<>();
+	private final List<String> valuesByCode = new ArrayList<>();
+	private int[] codes = new int[64];
+
+	/**
+	 * Stores a value in a row, growing the column if needed.
+	 *
+	 * @param row   The row index.
+	 * @param value The value, possibly null.
+	 */
+	public void set(int row, String value) {
+		if (row >= codes.length) {
+			codes = Arrays.copyOf(codes, Math.max(row + 1, codes.length * 2));
+		}
+		codes[row] = encode(value);
+	}
+
+	/**
+	 * @param row The row index.
+	 * @return The value stored in the row.
+	 */
+	public String get(int row) {
+		return decode(codes[row]);
+	}
+
+	/**
+	 * @param row The row index.
+	 * @return The code stored in the row.
+	 */
+	public int code(int row) {
+		return codes[row];
+	}
+
+	/**
+	 * Copies a row over another one, used to fill the hole left by a removal.
+	 *
+	 * @param from The row to copy.
+	 * @param to   The row to overwrite.
+	 */
+	public void move(int from, int to) {
+		codes[to] = codes[from];
+	}
+
+	/**
+	 * Looks up the code of a value without adding it to the dictionary.
+	 *
+	 * @param value The value, possibly null.
+	 * @return Its code, or {@link Integer#MIN_VALUE} if the value was never stored.
+	 */
+	public int codeOf(String value) {
+		if (value == null) {
+			return NULL_CODE;
+		}
+		Integer code = codesByValue.get(value);
+		return code == null ? Integer.MIN_VALUE : code;
+	}
+
+	/**
+	 * @param code A code returned by this column.
+	 * @return The value it stands for.
+	 */
+	public String decode(int code) {
+		return code == NULL_CODE ? null : valuesByCode.get(code);
+	}
+
+	/** @return The number of distinct non-null values ever stored. */
+	public int cardinality() {
+		return valuesByCode.size();
+	}
+
+	/**
+	 * Collects the rows holding a code.
+	 *
+	 * @param code     The code to match.
+	 * @param rowCount The number of rows in use.
+	 * @return The matching row indexes, in row order.
+	 */
+	public int[] rowsWithCode(int code, int rowCount) {
+		int[] rows = new int[16];
+		int found = 0;
+		for (int row = 0; row < rowCount; row++) {
+			if (codes[row] == code) {
+				if (found == rows.length) {
+					rows = Arrays.copyOf(rows, found * 2);
+				}
+				rows[found++] = row;
+			}
+		}
+		return Arrays.copyOf(rows, found);
+	}
+
+	private int encode(String value) {
+		if (value == null) {
+			return NULL_CODE;
+		}
+		Integer code = codesByValue.get(value);
+		if (code == null) {
+			code = valuesByCode.size();
+			codesByValue.put(value, code);
+			valuesByCode.add(value);
+		}
+		return code;
+	}
+}
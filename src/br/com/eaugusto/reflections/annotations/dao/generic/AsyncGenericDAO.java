@@ -0,0 +1,441 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Asynchronous facade over an {@link IGenericDAO} whose mutations are applied
+ * by a single writer thread.
+ *
+ * <p>
+ * {@link #register}, {@link #updateEntity} and {@link #delete} only enqueue the
+ * mutation and return a {@link CompletableFuture}. The writer drains whatever
+ * has accumulated, up to the batch size, and applies each run of consecutive
+ * mutations of the same kind with one {@link IGenericDAO#registerAll},
+ * {@link IGenericDAO#updateAll} or {@link IGenericDAO#deleteAll} call, so a
+ * durable DAO waits for the disk once per run instead of once per call.
+ * Several updates of the same key in one batch, with no registration or
+ * deletion of that key between them, collapse into the last one, which holds
+ * every field the earlier ones would have copied.
+ * </p>
+ *
+ * <p>
+ * {@link #search(String)} reads the wrapped DAO directly unless a mutation of
+ * that key is still queued, in which case it completes once the mutation has
+ * been applied; a search issued after a mutation therefore always sees it.
+ * Since reads run concurrently with the writer, the wrapped DAO must be
+ * thread-safe, such as a {@link ConcurrentGenericMapDAO}.
+ * </p>
+ *
+ * <p>
+ * Futures of mutations complete on the writer thread, so dependent actions
+ * that block should use the {@code async} variants of
+ * {@link CompletableFuture}.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by the wrapped DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class AsyncGenericDAO<T extends Persistable> implements AutoCloseable {
+
+	/** Default limit of mutations applied per batch. */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/** Default limit of queued mutations before callers block. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 64 * 1024;
+
+	private enum Kind {
+		REGISTER, UPDATE, DELETE, FLUSH
+	}
+
+	/** One queued call and the futures waiting for its outcome. */
+	private static final class Mutation<T> {
+
+		final Kind kind;
+		final String key;
+		final T entity;
+		final CompletableFuture<Boolean> future = new CompletableFuture<>();
+		/** Earlier updates of the same key collapsed into this one. */
+		List<Mutation<T>> coalesced;
+
+		Mutation(Kind kind, String key, T entity) {
+			this.kind = kind;
+			this.key = key;
+			this.entity = entity;
+		}
+	}
+
+	private final IGenericDAO<T> delegate;
+	private final int batchSize;
+	private final BlockingQueue<Mutation<T>> queue = new LinkedBlockingQueue<>();
+	private final Semaphore capacity;
+	private final Map<String, CompletableFuture<Boolean>> pendingByKey = new ConcurrentHashMap<>();
+	private final Thread writer;
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder coalescedUpdates = new LongAdder();
+
+	/**
+	 * Shared by callers while they check {@link #closed} and queue, taken
+	 * exclusively by {@link #close()} to set it, so nothing is queued once the
+	 * writer may have drained for the last time.
+	 */
+	private final ReadWriteLock closing = new ReentrantReadWriteLock();
+	private volatile boolean closed;
+
+	/**
+	 * Wraps a DAO with the default batch size and queue capacity.
+	 *
+	 * @param delegate A thread-safe DAO.
+	 */
+	public AsyncGenericDAO(IGenericDAO<T> delegate) {
+		this(delegate, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Wraps a DAO and starts its writer thread.
+	 *
+	 * @param delegate      A thread-safe DAO.
+	 * @param batchSize     Most mutations applied per batch.
+	 * @param queueCapacity Most mutations queued before callers block.
+	 */
+	public AsyncGenericDAO(IGenericDAO<T> delegate, int batchSize, int queueCapacity) {
+		this.delegate = delegate;
+		this.batchSize = Math.max(1, batchSize);
+		this.capacity = new Semaphore(Math.max(1, queueCapacity));
+		this.writer = new Thread(this::runWriter, "async-dao-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/** @return The wrapped DAO. */
+	public IGenericDAO<T> getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Queues the registration of an entity.
+	 *
+	 * @param entity The entity to register.
+	 * @return Completes with true if it was registered, false if its key
+	 *         already existed.
+	 */
+	public CompletableFuture<Boolean> register(T entity) {
+		return enqueue(Kind.REGISTER, KeyExtractor.forClass(entity.getClass()).extract(entity), entity);
+	}
+
+	/**
+	 * Queues the update of a registered entity.
+	 *
+	 * @param entity The entity containing updated information.
+	 * @return Completes with true if an entity was registered under its key.
+	 */
+	public CompletableFuture<Boolean> updateEntity(T entity) {
+		return enqueue(Kind.UPDATE, KeyExtractor.forClass(entity.getClass()).extract(entity), entity);
+	}
+
+	/**
+	 * Queues the deletion of an entity.
+	 *
+	 * @param value The CPF or code of the entity to delete.
+	 * @return Completes with true if an entity was registered under it.
+	 */
+	public CompletableFuture<Boolean> delete(String value) {
+		return enqueue(Kind.DELETE, value, null);
+	}
+
+	/**
+	 * Searches for an entity, after any queued mutation of the same key. A
+	 * search that has to wait runs on the common fork-join pool, never on the
+	 * writer thread.
+	 *
+	 * @param value The CPF or code to search.
+	 * @return Completes with the found entity, or null if not found.
+	 */
+	public CompletableFuture<T> search(String value) {
+		return search(value, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Searches for an entity, after any queued mutation of the same key.
+	 *
+	 * @param value    The CPF or code to search.
+	 * @param executor Runs the search if it has to wait for a queued mutation.
+	 * @return Completes with the found entity, or null if not found.
+	 */
+	public CompletableFuture<T> search(String value, Executor executor) {
+		CompletableFuture<Boolean> pending = pendingByKey.get(value);
+		if (pending == null) {
+			return CompletableFuture.completedFuture(delegate.search(value));
+		}
+		return pending.handleAsync((outcome, failure) -> delegate.search(value), executor);
+	}
+
+	/**
+	 * Returns the registered entities as seen by the wrapped DAO, without waiting
+	 * for queued mutations.
+	 *
+	 * @return The wrapped DAO's collection of entities.
+	 */
+	public Collection<T> searchAll() {
+		return delegate.searchAll();
+	}
+
+	/**
+	 * @return Completes once every mutation queued before this call has been
+	 *         applied; already complete once the DAO is closed, since closing
+	 *         applies them all.
+	 */
+	public CompletableFuture<Void> flush() {
+		if (closed) {
+			return CompletableFuture.completedFuture(null);
+		}
+		Mutation<T> marker = new Mutation<>(Kind.FLUSH, null, null);
+		acquireCapacity();
+		closing.readLock().lock();
+		try {
+			if (closed) {
+				capacity.release();
+				return CompletableFuture.completedFuture(null);
+			}
+			queue.add(marker);
+		} finally {
+			closing.readLock().unlock();
+		}
+		return marker.future.thenApply(outcome -> null);
+	}
+
+	/** @return The batches applied so far. */
+	public long getBatches() {
+		return batches.sum();
+	}
+
+	/** @return The updates that were collapsed into a later update of the same key. */
+	public long getCoalescedUpdates() {
+		return coalescedUpdates.sum();
+	}
+
+	/**
+	 * Applies every queued mutation and stops the writer thread. Later mutations
+	 * fail with {@link IllegalStateException}.
+	 */
+	@Override
+	public void close() {
+		Mutation<T> marker = new Mutation<>(Kind.FLUSH, null, null);
+		closing.writeLock().lock();
+		try {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			// Not counted against the capacity, so closing never blocks on a full queue.
+			queue.add(marker);
+		} finally {
+			closing.writeLock().unlock();
+		}
+		marker.future.join();
+		writer.interrupt();
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		failLeftovers();
+	}
+
+	private CompletableFuture<Boolean> enqueue(Kind kind, String key, T entity) {
+		if (closed) {
+			throw new IllegalStateException("DAO assíncrono já foi fechado");
+		}
+		Mutation<T> mutation = new Mutation<>(kind, key, entity);
+		acquireCapacity();
+		closing.readLock().lock();
+		try {
+			if (closed) {
+				capacity.release();
+				throw new IllegalStateException("DAO assíncrono já foi fechado");
+			}
+			// Queued while holding the key's entry, so the entry always names the
+			// mutation of that key the writer will apply last.
+			pendingByKey.compute(key, (pendingKey, previous) -> {
+				queue.add(mutation);
+				return mutation.future;
+			});
+		} finally {
+			closing.readLock().unlock();
+		}
+		return mutation.future;
+	}
+
+	/**
+	 * Fails whatever is still queued once the writer has stopped, so no caller
+	 * waits forever if it stopped early.
+	 */
+	private void failLeftovers() {
+		List<Mutation<T>> leftovers = new ArrayList<>();
+		queue.drainTo(leftovers);
+		IllegalStateException failure = new IllegalStateException("DAO assíncrono já foi fechado");
+		for (Mutation<T> eachMutation : leftovers) {
+			fail(eachMutation, failure);
+		}
+	}
+
+	private void acquireCapacity() {
+		try {
+			capacity.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrompido aguardando espaço na fila", e);
+		}
+	}
+
+	private void runWriter() {
+		List<Mutation<T>> batch = new ArrayList<>(batchSize);
+		boolean stopping = false;
+		while (!stopping) {
+			try {
+				batch.add(queue.take());
+				queue.drainTo(batch, batchSize - 1);
+			} catch (InterruptedException e) {
+				if (!closed) {
+					continue;
+				}
+				// Mutations that raced with close() are still applied.
+				queue.drainTo(batch);
+				stopping = true;
+			}
+			if (!batch.isEmpty()) {
+				capacity.release(batch.size());
+				apply(batch);
+				batches.increment();
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Collapses repeated updates, then applies each run of surviving mutations of
+	 * the same kind with one batch call.
+	 */
+	private void apply(List<Mutation<T>> batch) {
+		// Position in the surviving list of the last update of each key since its
+		// last registration or deletion; a later update takes that position.
+		Map<String, Integer> latestUpdates = new HashMap<>();
+		List<Mutation<T>> surviving = new ArrayList<>(batch.size());
+		for (Mutation<T> eachMutation : batch) {
+			if (eachMutation.kind == Kind.UPDATE) {
+				Integer position = latestUpdates.putIfAbsent(eachMutation.key, surviving.size());
+				if (position != null) {
+					coalesce(surviving.get(position), eachMutation);
+					surviving.set(position, eachMutation);
+					continue;
+				}
+			} else if (eachMutation.kind != Kind.FLUSH) {
+				latestUpdates.remove(eachMutation.key);
+			}
+			surviving.add(eachMutation);
+		}
+
+		int start = 0;
+		while (start < surviving.size()) {
+			Kind kind = surviving.get(start).kind;
+			int end = start + 1;
+			while (end < surviving.size() && surviving.get(end).kind == kind) {
+				end++;
+			}
+			applyRun(kind, surviving.subList(start, end));
+			start = end;
+		}
+	}
+
+	private void coalesce(Mutation<T> previous, Mutation<T> latest) {
+		if (latest.coalesced == null) {
+			latest.coalesced = new ArrayList<>(2);
+		}
+		latest.coalesced.add(previous);
+		if (previous.coalesced != null) {
+			latest.coalesced.addAll(previous.coalesced);
+			previous.coalesced = null;
+		}
+		coalescedUpdates.increment();
+	}
+
+	private void applyRun(Kind kind, List<Mutation<T>> run) {
+		if (kind == Kind.FLUSH) {
+			for (Mutation<T> eachMarker : run) {
+				eachMarker.future.complete(Boolean.TRUE);
+			}
+			return;
+		}
+
+		BitSet outcomes;
+		try {
+			if (kind == Kind.DELETE) {
+				List<String> keys = new ArrayList<>(run.size());
+				for (Mutation<T> eachMutation : run) {
+					keys.add(eachMutation.key);
+				}
+				outcomes = delegate.deleteAll(keys);
+			} else {
+				List<T> entities = new ArrayList<>(run.size());
+				for (Mutation<T> eachMutation : run) {
+					entities.add(eachMutation.entity);
+				}
+				if (kind == Kind.REGISTER) {
+					outcomes = delegate.registerAll(entities);
+					outcomes.flip(0, run.size());
+				} else {
+					outcomes = delegate.updateAll(entities);
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			for (Mutation<T> eachMutation : run) {
+				fail(eachMutation, e);
+			}
+			return;
+		}
+
+		for (int i = 0; i < run.size(); i++) {
+			complete(run.get(i), outcomes.get(i));
+		}
+	}
+
+	private void complete(Mutation<T> mutation, boolean outcome) {
+		if (mutation.coalesced != null) {
+			for (Mutation<T> eachEarlier : mutation.coalesced) {
+				eachEarlier.future.complete(outcome);
+				pendingByKey.remove(eachEarlier.key, eachEarlier.future);
+			}
+		}
+		mutation.future.complete(outcome);
+		pendingByKey.remove(mutation.key, mutation.future);
+	}
+
+	private void fail(Mutation<T> mutation, Throwable failure) {
+		if (mutation.coalesced != null) {
+			for (Mutation<T> eachEarlier : mutation.coalesced) {
+				eachEarlier.future.completeExceptionally(failure);
+				pendingByKey.remove(eachEarlier.key, eachEarlier.future);
+			}
+		}
+		mutation.future.completeExceptionally(failure);
+		pendingByKey.remove(mutation.key, mutation.future);
+	}
+}
@@ -0,0 +1,231 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import br.com.eaugusto.reflections.annotations.codec.DictionaryEncodedFields;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Abstract Thread-Safe Generic DAO Implementation Using Concurrent Maps As
+ * Storage.
+ *
+ * <p>
+ * This class mirrors {@link GenericMapDAO} but keeps its entities in a
+ * {@link ConcurrentHashMap}, so a single instance can be shared by many
+ * threads without external locking. Lookups are lock-free and {@code register}
+ * is an atomic insert-if-absent. {@code updateEntity} never modifies the stored
+ * entity: it applies
+ * {@link #updateRegisteredEntityWithNewData(Persistable, Persistable)} to a
+ * copy of it and publishes the copy atomically for the affected key only, so a
+ * lock-free reader sees either the whole previous entity or the whole updated
+ * one. Like {@link GenericMapDAO}, it treats a {@code null} identifier as one
+ * that is not registered.
+ * </p>
+ *
+ * <p>
+ * Updates therefore replace the mapping instead of changing the registered
+ * instance, as in {@link GenericMapDAO}: an entity returned by {@code search}
+ * before an update keeps its old values and is no longer the registered one
+ * afterwards.
+ * </p>
+ *
+ * <p>
+ * Subclasses must specify the entity Class type and may override how to
+ * update an existing registered entity with new data, which by default copies
+ * every field except the key.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by this DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public abstract class ConcurrentGenericMapDAO<T extends Persistable> implements IGenericDAO<T> {
+
+	/**
+	 * Storage map: associates each entity class with a map of entities by their ID.
+	 */
+	protected ConcurrentMap<Class<T>, ConcurrentMap<String, T>> storage;
+
+	/**
+	 * Inner map for {@link #getClassType()}, resolved once so operations skip the
+	 * outer lookup.
+	 */
+	private final ConcurrentMap<String, T> entityMap;
+
+	/**
+	 * Shared dictionaries of the
+	 * {@link br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded}
+	 * fields of the entity class.
+	 */
+	private final DictionaryEncodedFields dictionaryFields;
+
+	/** Copies a registered entity before updating it. */
+	private final EntityCopier copier;
+
+	/**
+	 * Returns the class object representing the entity type managed.
+	 *
+	 * @return Class of type T
+	 */
+	public abstract Class<T> getClassType();
+
+	/**
+	 * Updates the data of a registered entity with values from a new entity.
+	 *
+	 * <p>
+	 * By default every field except the {@code KeyType} one is copied by the
+	 * entity's {@link EntityCopier}; subclasses may override it to copy
+	 * selectively.
+	 * </p>
+	 *
+	 * <p>
+	 * Called on a private copy of the registered entity, not yet visible to
+	 * readers, while the entry for the entity's key is locked, so it never runs
+	 * concurrently with another update or a delete of the same key.
+	 * </p>
+	 *
+	 * @param newEntity        The entity containing new data.
+	 * @param registeredEntity The copy of the registered entity to update.
+	 */
+	public void updateRegisteredEntityWithNewData(T newEntity, T registeredEntity) {
+		EntityCopier.forClass(getClassType()).copy(newEntity, registeredEntity);
+	}
+
+	/**
+	 * Constructor initializes the storage map and ensures inner map for the entity
+	 * class exists.
+	 */
+	protected ConcurrentGenericMapDAO() {
+		this.storage = new ConcurrentHashMap<>();
+		this.entityMap = storage.computeIfAbsent(getClassType(), entityClass -> new ConcurrentHashMap<>());
+		this.dictionaryFields = DictionaryEncodedFields.of(getClassType());
+		this.copier = EntityCopier.forClass(getClassType());
+	}
+
+	/**
+	 * Retrieves the unique key of the given entity through its cached
+	 * {@link KeyExtractor}.
+	 *
+	 * @param entity The entity from which to extract the key.
+	 * @return The key as a String.
+	 * @throws IllegalStateException if the {@code KeyType} declaration of the
+	 *                               entity is invalid.
+	 */
+	public String getKey(T entity) {
+		return KeyExtractor.forClass(entity.getClass()).extract(entity);
+	}
+
+	@Override
+	public Boolean register(T entity) {
+		dictionaryFields.canonicalize(entity);
+		return entityMap.putIfAbsent(getKey(entity), entity) == null;
+	}
+
+	@Override
+	public void delete(String identifier) {
+		if (identifier != null) {
+			entityMap.remove(identifier);
+		}
+	}
+
+	@Override
+	public void updateEntity(T entity) {
+		dictionaryFields.canonicalize(entity);
+		entityMap.computeIfPresent(getKey(entity),
+				(entityKey, registeredEntity) -> updatedCopy(entity, registeredEntity));
+	}
+
+	@Override
+	public T search(String identifier) {
+		return identifier == null ? null : entityMap.get(identifier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned list is a copy of the entities registered while it was being
+	 * built; later writes do not show through it.
+	 * </p>
+	 */
+	@Override
+	public Collection<T> searchAll() {
+		return new ArrayList<>(entityMap.values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Each registration is atomic on its own; the batch as a whole is not.
+	 * </p>
+	 */
+	@Override
+	public BitSet registerAll(Collection<? extends T> entities) {
+		BitSet duplicates = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			dictionaryFields.canonicalize(eachEntity);
+			if (entityMap.putIfAbsent(getKey(eachEntity), eachEntity) != null) {
+				duplicates.set(index);
+			}
+			index++;
+		}
+		return duplicates;
+	}
+
+	@Override
+	public List<T> searchMany(Collection<String> identifiers) {
+		List<T> results = new ArrayList<>(identifiers.size());
+		for (String eachIdentifier : identifiers) {
+			results.add(search(eachIdentifier));
+		}
+		return results;
+	}
+
+	@Override
+	public BitSet deleteAll(Collection<String> identifiers) {
+		BitSet deleted = new BitSet(identifiers.size());
+		int index = 0;
+		for (String eachIdentifier : identifiers) {
+			if (eachIdentifier != null && entityMap.remove(eachIdentifier) != null) {
+				deleted.set(index);
+			}
+			index++;
+		}
+		return deleted;
+	}
+
+	@Override
+	public BitSet updateAll(Collection<? extends T> entities) {
+		BitSet updated = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			dictionaryFields.canonicalize(eachEntity);
+			T registeredEntity = entityMap.computeIfPresent(getKey(eachEntity),
+					(entityKey, currentEntity) -> updatedCopy(eachEntity, currentEntity));
+			if (registeredEntity != null) {
+				updated.set(index);
+			}
+			index++;
+		}
+		return updated;
+	}
+
+	/**
+	 * Duplicates a registered entity field by field and applies an update to the
+	 * copy, leaving the registered instance untouched for concurrent readers.
+	 */
+	private T updatedCopy(T newEntity, T registeredEntity) {
+		T replacement = copier.duplicate(registeredEntity);
+		updateRegisteredEntityWithNewData(newEntity, replacement);
+		dictionaryFields.canonicalize(replacement);
+		return replacement;
+	}
+}
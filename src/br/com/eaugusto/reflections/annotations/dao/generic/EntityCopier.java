@@ -0,0 +1,319 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+
+/**
+ * Copies the data fields of one entity onto another, reporting which of them
+ * changed.
+ *
+ * <p>
+ * The non-static, non-transient, non-final fields of the class, except the
+ * one annotated with {@link KeyType}, are discovered by reflection once per
+ * class and cached in a {@link ClassValue}. Each field is bound to a getter and a setter
+ * {@link MethodHandle} adapted to one of three shapes, {@code Object},
+ * {@code long} for integral and boolean fields, or {@code double} for floating
+ * point fields, so copying boxes nothing and does no reflective lookup.
+ * </p>
+ *
+ * <p>
+ * Changes are reported as a {@code long} bit mask, bit {@code i} standing for
+ * the field at {@link #position(String) position} {@code i}, which lets callers
+ * skip index maintenance or logging when nothing relevant changed. Reference
+ * fields are compared with {@link Objects#equals(Object, Object)}.
+ * </p>
+ *
+ * <p>
+ * {@link #duplicate(Object)} builds a new instance through the no-argument
+ * constructor of the class and copies every field into it, the key included,
+ * so copy-on-write DAOs can update a private copy of a registered entity.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityCopier {
+
+	private static final int MAX_FIELDS = Long.SIZE;
+
+	private static final byte REFERENCE = 0;
+	private static final byte INTEGRAL = 1;
+	private static final byte FLOATING = 2;
+
+	private static final ClassValue<EntityCopier> COPIERS = new ClassValue<>() {
+		@Override
+		protected EntityCopier computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	private final String className;
+	private final String[] names;
+	private final byte[] kinds;
+	private final MethodHandle[] getters;
+	private final MethodHandle[] setters;
+	private final MethodHandle constructor;
+	private final MethodHandle keyGetter;
+	private final MethodHandle keySetter;
+
+	private EntityCopier(String className, String[] names, byte[] kinds, MethodHandle[] getters,
+			MethodHandle[] setters, MethodHandle constructor, MethodHandle keyGetter, MethodHandle keySetter) {
+		this.className = className;
+		this.names = names;
+		this.kinds = kinds;
+		this.getters = getters;
+		this.setters = setters;
+		this.constructor = constructor;
+		this.keyGetter = keyGetter;
+		this.keySetter = keySetter;
+	}
+
+	/**
+	 * Returns the cached copier for the given entity class.
+	 *
+	 * @param type The entity class.
+	 * @return The copier for that class.
+	 * @throws IllegalStateException if the fields of the class cannot be accessed
+	 *                               or it has more than 64 copied fields.
+	 */
+	public static EntityCopier forClass(Class<?> type) {
+		return COPIERS.get(type);
+	}
+
+	/** @return The number of copied fields. */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * @param position The position of a copied field.
+	 * @return Its name.
+	 */
+	public String name(int position) {
+		return names[position];
+	}
+
+	/**
+	 * @param fieldName The name of a field.
+	 * @return Its position, or -1 if the field is not copied.
+	 */
+	public int position(String fieldName) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Copies every field that differs from {@code source} into {@code target}.
+	 *
+	 * @param source The entity holding the new data.
+	 * @param target The entity to update.
+	 * @return The mask of the fields that changed; 0 if none did.
+	 */
+	public long copy(Object source, Object target) {
+		try {
+			long changes = 0;
+			for (int i = 0; i < kinds.length; i++) {
+				if (copyField(i, source, target)) {
+					changes |= 1L << i;
+				}
+			}
+			return changes;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Não foi possível copiar os campos da classe " + className, e);
+		}
+	}
+
+	/**
+	 * Creates a new instance of the class and copies every field of
+	 * {@code source} into it, including the key.
+	 *
+	 * @param <T>    The type of the entity.
+	 * @param source The entity to duplicate, an instance of this copier's class.
+	 * @return The new instance.
+	 * @throws IllegalStateException if the class has no no-argument constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T duplicate(T source) {
+		if (constructor == null) {
+			throw new IllegalStateException("Classe " + className + " não tem um construtor sem argumentos");
+		}
+		try {
+			Object target = (Object) constructor.invokeExact();
+			if (keyGetter != null) {
+				keySetter.invokeExact(target, (Object) keyGetter.invokeExact((Object) source));
+			}
+			for (int i = 0; i < kinds.length; i++) {
+				switch (kinds[i]) {
+				case INTEGRAL:
+					setters[i].invokeExact(target, (long) getters[i].invokeExact((Object) source));
+					break;
+				case FLOATING:
+					setters[i].invokeExact(target, (double) getters[i].invokeExact((Object) source));
+					break;
+				default:
+					setters[i].invokeExact(target, (Object) getters[i].invokeExact((Object) source));
+				}
+			}
+			return (T) target;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Não foi possível duplicar uma instância de " + className, e);
+		}
+	}
+
+	/**
+	 * Compares every copied field of two entities without changing them.
+	 *
+	 * @param source The entity holding the new data.
+	 * @param target The entity it would be copied into.
+	 * @return The mask of the fields a {@link #copy(Object, Object)} would change.
+	 */
+	public long differences(Object source, Object target) {
+		try {
+			long changes = 0;
+			for (int i = 0; i < kinds.length; i++) {
+				if (differs(i, source, target)) {
+					changes |= 1L << i;
+				}
+			}
+			return changes;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Não foi possível comparar os campos da classe " + className, e);
+		}
+	}
+
+	/**
+	 * Translates a change mask into field names.
+	 *
+	 * @param changes A mask returned by this copier.
+	 * @return The names of the changed fields, in position order.
+	 */
+	public List<String> names(long changes) {
+		List<String> changedNames = new ArrayList<>(Long.bitCount(changes));
+		for (int i = 0; i < names.length; i++) {
+			if ((changes & (1L << i)) != 0) {
+				changedNames.add(names[i]);
+			}
+		}
+		return changedNames;
+	}
+
+	private boolean copyField(int i, Object source, Object target) throws Throwable {
+		switch (kinds[i]) {
+		case INTEGRAL: {
+			long value = (long) getters[i].invokeExact(source);
+			if (value == (long) getters[i].invokeExact(target)) {
+				return false;
+			}
+			setters[i].invokeExact(target, value);
+			return true;
+		}
+		case FLOATING: {
+			double value = (double) getters[i].invokeExact(source);
+			if (Double.doubleToLongBits(value) == Double.doubleToLongBits((double) getters[i].invokeExact(target))) {
+				return false;
+			}
+			setters[i].invokeExact(target, value);
+			return true;
+		}
+		default: {
+			Object value = (Object) getters[i].invokeExact(source);
+			if (Objects.equals(value, (Object) getters[i].invokeExact(target))) {
+				return false;
+			}
+			setters[i].invokeExact(target, value);
+			return true;
+		}
+		}
+	}
+
+	private boolean differs(int i, Object source, Object target) throws Throwable {
+		switch (kinds[i]) {
+		case INTEGRAL:
+			return (long) getters[i].invokeExact(source) != (long) getters[i].invokeExact(target);
+		case FLOATING:
+			return Double.doubleToLongBits((double) getters[i].invokeExact(source)) != Double
+					.doubleToLongBits((double) getters[i].invokeExact(target));
+		default:
+			return !Objects.equals((Object) getters[i].invokeExact(source), (Object) getters[i].invokeExact(target));
+		}
+	}
+
+	/**
+	 * Binds a getter and a setter for every copied field, widening primitives to
+	 * {@code long} or {@code double} with
+	 * {@link MethodHandles#explicitCastArguments}.
+	 */
+	private static EntityCopier resolve(Class<?> type) {
+		List<Field> copiedFields = new ArrayList<>();
+		Field keyField = null;
+		for (Field eachField : type.getDeclaredFields()) {
+			int modifiers = eachField.getModifiers();
+			if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || Modifier.isFinal(modifiers)) {
+				continue;
+			}
+			if (eachField.isAnnotationPresent(KeyType.class)) {
+				keyField = eachField;
+			} else {
+				copiedFields.add(eachField);
+			}
+		}
+		if (copiedFields.size() > MAX_FIELDS) {
+			throw new IllegalStateException(
+					"Classe " + type.getSimpleName() + " tem mais de " + MAX_FIELDS + " campos para copiar");
+		}
+
+		int count = copiedFields.size();
+		String[] names = new String[count];
+		byte[] kinds = new byte[count];
+		MethodHandle[] getters = new MethodHandle[count];
+		MethodHandle[] setters = new MethodHandle[count];
+		MethodHandle constructor;
+		MethodHandle keyGetter = null;
+		MethodHandle keySetter = null;
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			try {
+				constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+						.asType(MethodType.methodType(Object.class));
+			} catch (NoSuchMethodException e) {
+				// Only duplicate needs it, and reports its absence.
+				constructor = null;
+			}
+			if (keyField != null) {
+				keyGetter = lookup.unreflectGetter(keyField).asType(MethodType.methodType(Object.class, Object.class));
+				keySetter = lookup.unreflectSetter(keyField)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			}
+			for (int i = 0; i < count; i++) {
+				Field eachField = copiedFields.get(i);
+				Class<?> fieldType = eachField.getType();
+				Class<?> shape = fieldType == double.class || fieldType == float.class ? double.class
+						: fieldType.isPrimitive() ? long.class : Object.class;
+
+				names[i] = eachField.getName();
+				kinds[i] = shape == double.class ? FLOATING : shape == long.class ? INTEGRAL : REFERENCE;
+				getters[i] = MethodHandles.explicitCastArguments(lookup.unreflectGetter(eachField),
+						MethodType.methodType(shape, Object.class));
+				setters[i] = MethodHandles.explicitCastArguments(lookup.unreflectSetter(eachField),
+						MethodType.methodType(void.class, Object.class, shape));
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Não foi possível acessar os campos da classe " + type.getSimpleName(), e);
+		}
+		return new EntityCopier(type.getSimpleName(), names, kinds, getters, setters, constructor, keyGetter,
+				keySetter);
+	}
+}
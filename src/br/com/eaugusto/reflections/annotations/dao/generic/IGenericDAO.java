@@ -1,7 +1,12 @@
 package br.com.eaugusto.reflections.annotations.dao.generic;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
+import br.com.eaugusto.reflections.annotations.dao.index.IndexedFields;
 import br.com.eaugusto.reflections.annotations.domain.Persistable;
 
 /**
@@ -51,4 +56,111 @@ public interface IGenericDAO<T extends Persistable> {
 	 * @return A collection of all stored entities.
 	 */
 	public Collection<T> searchAll();
+
+	/**
+	 * Returns the entities whose field annotated with
+	 * {@link br.com.eaugusto.reflections.annotations.annotation.Indexed} holds the
+	 * given value.
+	 *
+	 * <p>
+	 * The default implementation scans {@link #searchAll()}; implementations
+	 * maintaining secondary indexes answer in time proportional to the number of
+	 * matches.
+	 * </p>
+	 *
+	 * @param fieldName The name of an indexed field, such as {@code "city"}.
+	 * @param value     The value to look up.
+	 * @return The matching entities, empty if none.
+	 * @throws IllegalArgumentException if the field is not indexed.
+	 */
+	public default Collection<T> findBy(String fieldName, Object value) {
+		List<T> matches = new ArrayList<>();
+		for (T eachEntity : searchAll()) {
+			IndexedFields fields = IndexedFields.of(eachEntity.getClass());
+			if (Objects.equals(fields.read(fields.positionOf(fieldName), eachEntity), value)) {
+				matches.add(eachEntity);
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Registers every entity of the given collection in a single pass.
+	 *
+	 * <p>
+	 * Arrays can be passed through {@link java.util.Arrays#asList(Object...)}.
+	 * Implementations should do their per-class setup once per batch instead of
+	 * once per entity.
+	 * </p>
+	 *
+	 * @param entities The entities to register, in order.
+	 * @return A bitmap where bit {@code i} is set if the {@code i}-th entity was
+	 *         not registered because it already existed.
+	 */
+	public default BitSet registerAll(Collection<? extends T> entities) {
+		BitSet duplicates = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			if (!Boolean.TRUE.equals(register(eachEntity))) {
+				duplicates.set(index);
+			}
+			index++;
+		}
+		return duplicates;
+	}
+
+	/**
+	 * Searches for several entities by their unique identifiers.
+	 *
+	 * @param values The CPFs or codes to search.
+	 * @return A list with one element per identifier, in the same order, holding
+	 *         the found entity or null if not found.
+	 */
+	public default List<T> searchMany(Collection<String> values) {
+		List<T> results = new ArrayList<>(values.size());
+		for (String eachValue : values) {
+			results.add(search(eachValue));
+		}
+		return results;
+	}
+
+	/**
+	 * Deletes several entities by their unique identifiers.
+	 *
+	 * @param values The CPFs or codes of the entities to delete.
+	 * @return A bitmap where bit {@code i} is set if the {@code i}-th identifier
+	 *         was found and deleted.
+	 */
+	public default BitSet deleteAll(Collection<String> values) {
+		BitSet deleted = new BitSet(values.size());
+		int index = 0;
+		for (String eachValue : values) {
+			if (search(eachValue) != null) {
+				delete(eachValue);
+				deleted.set(index);
+			}
+			index++;
+		}
+		return deleted;
+	}
+
+	/**
+	 * Updates several existing entities with new data.
+	 *
+	 * @param entities The entities containing updated information.
+	 * @return A bitmap where bit {@code i} is set if the {@code i}-th entity was
+	 *         registered and therefore updated.
+	 */
+	public default BitSet updateAll(Collection<? extends T> entities) {
+		BitSet updated = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			if (search(KeyExtractor.forClass(eachEntity.getClass()).extract(eachEntity)) != null) {
+				updateEntity(eachEntity);
+				updated.set(index);
+			}
+			index++;
+		}
+		return updated;
+	}
 }
@@ -0,0 +1,159 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import br.com.eaugusto.reflections.annotations.annotation.GeneratedKeyExtractor;
+import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+
+/**
+ * Resolves and caches, once per entity class, how the unique key of an entity
+ * is read.
+ *
+ * <p>
+ * The field annotated with {@link KeyType} and the getter it names are looked
+ * up by reflection only the first time a class is seen. The getter is then kept
+ * as a {@link MethodHandle} inside a {@link ClassValue}, so extracting a key
+ * afterwards does no reflective lookup and allocates nothing.
+ * </p>
+ *
+ * <p>
+ * When the {@link br.com.eaugusto.reflections.annotations.processor.KeyTypeProcessor}
+ * ran at compile time, the generated {@link GeneratedKeyExtractor} for the class
+ * is used instead. It is found and instantiated by reflection once, the first
+ * time the class is seen; after that, keys are read by plain calls to the
+ * generated code, with no reflection and no method handle.
+ * </p>
+ *
+ * <p>
+ * Malformed {@link KeyType} declarations fail with the same
+ * {@link IllegalStateException} messages previously raised by
+ * {@link GenericMapDAO#getKey(br.com.eaugusto.reflections.annotations.domain.Persistable)}.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class KeyExtractor {
+
+	/** Getter shape every key handle is adapted to: {@code (Object)Object}. */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** One extractor per entity class, resolved lazily on first use. */
+	private static final ClassValue<KeyExtractor> EXTRACTORS = new ClassValue<>() {
+		@Override
+		protected KeyExtractor computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	private final String methodName;
+	private final String className;
+	private final MethodHandle getter;
+	private final GeneratedKeyExtractor<Object> generated;
+
+	private KeyExtractor(String methodName, String className, MethodHandle getter,
+			GeneratedKeyExtractor<Object> generated) {
+		this.methodName = methodName;
+		this.className = className;
+		this.getter = getter;
+		this.generated = generated;
+	}
+
+	/**
+	 * Returns the cached key extractor for the given entity class.
+	 *
+	 * @param type The entity class.
+	 * @return The extractor for that class.
+	 * @throws IllegalStateException if the class has no valid {@link KeyType}
+	 *                               declaration.
+	 */
+	public static KeyExtractor forClass(Class<?> type) {
+		return EXTRACTORS.get(type);
+	}
+
+	/**
+	 * Reads the unique key of the given entity.
+	 *
+	 * @param entity The entity from which to extract the key.
+	 * @return The key as a String.
+	 * @throws IllegalStateException if the getter fails or does not return a
+	 *                               String.
+	 */
+	public String extract(Object entity) {
+		Object result;
+		try {
+			result = generated != null ? generated.extractKey(entity) : (Object) getter.invokeExact(entity);
+		} catch (Throwable e) {
+			throw new IllegalStateException(
+					"Não foi possível invocar o método '" + methodName + "' na classe " + className, e);
+		}
+
+		if (!(result instanceof String)) {
+			throw new IllegalStateException("Método '" + methodName + "' deve retornar uma String.");
+		}
+
+		return (String) result;
+	}
+
+	/**
+	 * Scans the declared fields of the class for {@link KeyType} and binds the
+	 * getter it names, preferring the generated extractor when one exists.
+	 */
+	private static KeyExtractor resolve(Class<?> type) {
+		for (Field eachField : type.getDeclaredFields()) {
+			if (eachField.isAnnotationPresent(KeyType.class)) {
+				String methodName = eachField.getAnnotation(KeyType.class).value();
+
+				GeneratedKeyExtractor<Object> generated = findGenerated(type);
+				if (generated != null) {
+					return new KeyExtractor(methodName, type.getSimpleName(), null, generated);
+				}
+
+				try {
+					Method method = type.getMethod(methodName);
+					MethodHandle getter = MethodHandles.publicLookup().unreflect(method);
+					if (Modifier.isStatic(method.getModifiers())) {
+						getter = MethodHandles.dropArguments(getter, 0, Object.class);
+					}
+					getter = getter.asType(GETTER_TYPE);
+					return new KeyExtractor(methodName, type.getSimpleName(), getter, null);
+				} catch (NoSuchMethodException e) {
+					throw new IllegalStateException(
+							"Método '" + methodName + "' não encontrado na classe " + type.getSimpleName(), e);
+				} catch (IllegalAccessException e) {
+					throw new IllegalStateException("Não foi possível acessar o método '" + methodName + "' na classe "
+							+ type.getSimpleName(), e);
+				}
+			}
+		}
+
+		throw new IllegalStateException("No field annotated with @KeyType found in class " + type.getSimpleName());
+	}
+
+	/**
+	 * Loads the {@code <Entity>_KeyExtractor} class generated by the annotation
+	 * processor, if it was compiled alongside the entity.
+	 *
+	 * @return The generated extractor, or {@code null} to fall back to reflection.
+	 */
+	@SuppressWarnings("unchecked")
+	private static GeneratedKeyExtractor<Object> findGenerated(Class<?> type) {
+		String packagePrefix = type.getPackageName().isEmpty() ? "" : type.getPackageName() + ".";
+		String generatedName = packagePrefix + type.getSimpleName() + GeneratedKeyExtractor.SUFFIX;
+
+		try {
+			Class<?> generatedClass = Class.forName(generatedName, true, type.getClassLoader());
+			if (!GeneratedKeyExtractor.class.isAssignableFrom(generatedClass)) {
+				return null;
+			}
+			return (GeneratedKeyExtractor<Object>) generatedClass.getConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.codec.EntityCodec;
+import br.com.eaugusto.reflections.annotations.codec.ValueDictionary;
+import br.com.eaugusto.reflections.annotations.dao.offheap.OffHeapStore;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Abstract Generic DAO Implementation That Keeps Its Entities Off The Java
+ * Heap.
+ *
+ * <p>
+ * This class is an alternative to {@link GenericMapDAO} for very large
+ * datasets. Entities are encoded with their {@link EntityCodec} into an
+ * {@link OffHeapStore}, so the heap only holds the store's bookkeeping instead
+ * of one object graph per entity, and the garbage collector has nothing to
+ * trace for stored data. {@code search} decodes a new entity on every call:
+ * changing the returned object does not change the stored one until it is
+ * passed to {@code updateEntity}.
+ * </p>
+ *
+ * <p>
+ * Fields annotated with
+ * {@link br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded}
+ * are stored as 4-byte dictionary codes, and {@link #findBy(String, Object)} on
+ * them compares codes in the encoded bytes, decoding only the matches.
+ * </p>
+ *
+ * <p>
+ * Off-heap memory is limited by {@code -XX:MaxDirectMemorySize} rather than
+ * {@code -Xmx}. Like {@link GenericMapDAO}, this class is not thread-safe.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by this DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public abstract class OffHeapGenericDAO<T extends Persistable> implements IGenericDAO<T> {
+
+	private final OffHeapStore store;
+	private final EntityCodec<T> codec;
+	private ByteBuffer scratch = ByteBuffer.allocate(256);
+
+	/**
+	 * Returns the class object representing the entity type managed.
+	 *
+	 * @return Class of type T
+	 */
+	public abstract Class<T> getClassType();
+
+	/**
+	 * Updates the data of a registered entity with values from a new entity.
+	 *
+	 * <p>
+	 * By default every field except the {@code KeyType} one is copied by the
+	 * entity's {@link EntityCopier}; subclasses may override it to copy
+	 * selectively.
+	 * </p>
+	 *
+	 * @param newEntity        The entity containing new data.
+	 * @param registeredEntity A decoded copy of the registered entity, encoded
+	 *                         back after this method returns.
+	 */
+	public void updateRegisteredEntityWithNewData(T newEntity, T registeredEntity) {
+		EntityCopier.forClass(getClassType()).copy(newEntity, registeredEntity);
+	}
+
+	/** Creates a DAO backed by slabs of the default size. */
+	protected OffHeapGenericDAO() {
+		this(OffHeapStore.DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * Creates a DAO.
+	 *
+	 * @param slabSize Size in bytes of each direct memory slab.
+	 */
+	protected OffHeapGenericDAO(int slabSize) {
+		this.store = new OffHeapStore(slabSize);
+		this.codec = EntityCodec.dictionaryEncoded(getClassType());
+	}
+
+	/**
+	 * Retrieves the unique key of the given entity through its cached
+	 * {@link KeyExtractor}.
+	 *
+	 * @param entity The entity from which to extract the key.
+	 * @return The key as a String.
+	 * @throws IllegalStateException if the {@code KeyType} declaration of the
+	 *                               entity is invalid.
+	 */
+	public String getKey(T entity) {
+		return KeyExtractor.forClass(entity.getClass()).extract(entity);
+	}
+
+	@Override
+	public Boolean register(T entity) {
+		return store.insert(getKey(entity), encode(entity));
+	}
+
+	@Override
+	public void delete(String identifier) {
+		store.remove(identifier);
+	}
+
+	@Override
+	public void updateEntity(T entity) {
+		update(entity);
+	}
+
+	@Override
+	public T search(String identifier) {
+		ByteBuffer encoded = store.get(identifier);
+		return encoded == null ? null : codec.decode(encoded);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Decodes every stored entity into a new list; prefer {@link #search(String)}
+	 * or {@link #findBy(String, Object)} on large datasets.
+	 * </p>
+	 */
+	@Override
+	public Collection<T> searchAll() {
+		List<T> entities = new ArrayList<>(store.size());
+		store.forEach(encoded -> entities.add(codec.decode(encoded)));
+		return entities;
+	}
+
+	@Override
+	public Collection<T> findBy(String fieldName, Object value) {
+		ValueDictionary dictionary = codec.dictionary(fieldName);
+		if (dictionary == null || value != null && !(value instanceof String)) {
+			return IGenericDAO.super.findBy(fieldName, value);
+		}
+
+		List<T> matches = new ArrayList<>();
+		int code = dictionary.codeOf((String) value);
+		if (code != ValueDictionary.UNKNOWN_CODE) {
+			store.forEach(encoded -> {
+				if (codec.readCode(encoded, fieldName) == code) {
+					matches.add(codec.decode(encoded));
+				}
+			});
+		}
+		return matches;
+	}
+
+	@Override
+	public BitSet deleteAll(Collection<String> identifiers) {
+		BitSet deleted = new BitSet(identifiers.size());
+		int index = 0;
+		for (String eachIdentifier : identifiers) {
+			if (store.remove(eachIdentifier)) {
+				deleted.set(index);
+			}
+			index++;
+		}
+		return deleted;
+	}
+
+	@Override
+	public BitSet updateAll(Collection<? extends T> entities) {
+		BitSet updated = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			if (update(eachEntity)) {
+				updated.set(index);
+			}
+			index++;
+		}
+		return updated;
+	}
+
+	/** @return The number of entities stored. */
+	public int size() {
+		return store.size();
+	}
+
+	/** @return The off-heap bytes reserved by this DAO. */
+	public long offHeapBytes() {
+		return store.reservedBytes();
+	}
+
+	private boolean update(T entity) {
+		String key = getKey(entity);
+		ByteBuffer encoded = store.get(key);
+		if (encoded == null) {
+			return false;
+		}
+		T registeredEntity = codec.decode(encoded);
+		updateRegisteredEntityWithNewData(entity, registeredEntity);
+		return store.replace(key, encode(registeredEntity));
+	}
+
+	private ByteBuffer encode(T entity) {
+		int size = codec.encodedSize(entity);
+		if (scratch.capacity() < size) {
+			scratch = ByteBuffer.allocate(Math.max(size, scratch.capacity() * 2));
+		}
+		scratch.clear();
+		codec.encode(entity, scratch);
+		return scratch.flip();
+	}
+}
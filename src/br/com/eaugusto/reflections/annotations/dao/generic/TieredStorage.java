@@ -0,0 +1,411 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import br.com.eaugusto.reflections.annotations.codec.DictionaryEncodedFields;
+import br.com.eaugusto.reflections.annotations.codec.EntityCodec;
+import br.com.eaugusto.reflections.annotations.dao.index.SecondaryIndexes;
+import br.com.eaugusto.reflections.annotations.dao.mvcc.PersistentHashMap;
+import br.com.eaugusto.reflections.annotations.dao.persistence.SpillSegment;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Hot and cold tiers of a {@link GenericMapDAO} in tiered mode.
+ *
+ * <p>
+ * The hot tier is the DAO's own map; the cold tier is a {@link SpillSegment}.
+ * A background thread moves entities from hot to cold while the estimated heap
+ * size of the hot tier is over its budget, and compacts the segment when it
+ * has nothing to spill. Victims are picked with the CLOCK algorithm: every
+ * search and write of a key sets its reference mark, and the spiller walks a
+ * snapshot of the hot map, giving marked entities a second chance by clearing
+ * their mark and spilling unmarked ones.
+ * </p>
+ *
+ * <p>
+ * Spilling encodes and writes each batch of victims without holding the DAO's
+ * tier lock, then, under the lock, moves only the victims still registered as
+ * the same instance and not marked since they were encoded. The DAO's updates
+ * register a new instance, so an entity updated while being encoded is never
+ * spilled from that encoding. Promotion back to the hot tier
+ * and every change to the DAO also take the lock, which is held only for
+ * in-memory work and single-record reads.
+ * </p>
+ *
+ * <p>
+ * The budget holds under load: once the estimate passes a hard limit a
+ * quarter above the budget, writers wait for the spiller before changing the
+ * DAO, and go on without waiting only if two whole spill rounds could not get
+ * below the limit. The estimate includes the reference marks, which are
+ * entries of a concurrent set of their own.
+ * </p>
+ *
+ * <p>
+ * If spilling or compaction fails, for example because the segment file can
+ * no longer be written, the background thread stops and keeps the failure;
+ * from then on every writer that would wait for room fails with it instead,
+ * while entities already in either tier stay readable.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by the DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class TieredStorage<T extends Persistable> {
+
+	/** Rough heap cost of an entity beyond its encoded bytes: headers and references. */
+	private static final int OBJECT_OVERHEAD = 16;
+	private static final int FIELD_OVERHEAD = 48;
+
+	/** Rough heap cost of a reference mark: set node, table slot and, at worst, its own key String. */
+	private static final int MARK_OVERHEAD = 96;
+
+	private static final int SPILL_BATCH = 256;
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final PersistentHashMap<String, T> entities;
+	private final SecondaryIndexes<T> indexes;
+	private final DictionaryEncodedFields dictionaryFields;
+	private final EntityCodec<T> codec;
+	private final SpillSegment<T> segment;
+	private final long heapBudget;
+	private final long lowWatermark;
+	private final long hardLimit;
+	private final int entityOverhead;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition spilled = lock.newCondition();
+	private final Set<String> recentlyUsed = ConcurrentHashMap.newKeySet();
+	private final Thread maintainer;
+
+	/** Estimated heap bytes of the hot tier, without marks; changed under the lock. */
+	private volatile long hotBytes;
+	private volatile boolean closed;
+
+	/** Why the background thread stopped before being closed, if it did. */
+	private volatile Throwable failure;
+
+	/** Spill rounds completed; guarded by the lock. */
+	private long spillRounds;
+
+	TieredStorage(Class<T> entityClass, PersistentHashMap<String, T> entities, SecondaryIndexes<T> indexes,
+			DictionaryEncodedFields dictionaryFields, Path segmentFile, long heapBudget) {
+		this.entities = entities;
+		this.indexes = indexes;
+		this.dictionaryFields = dictionaryFields;
+		this.codec = EntityCodec.of(entityClass);
+		this.segment = SpillSegment.create(segmentFile, codec);
+		this.heapBudget = heapBudget;
+		this.lowWatermark = heapBudget - heapBudget / 10;
+		this.hardLimit = heapBudget + heapBudget / 4;
+		this.entityOverhead = OBJECT_OVERHEAD + FIELD_OVERHEAD * (EntityCopier.forClass(entityClass).size() + 1);
+
+		long bytes = 0;
+		for (T eachEntity : entities.values()) {
+			bytes += weigh(eachEntity);
+		}
+		this.hotBytes = bytes;
+
+		this.maintainer = new Thread(this::runMaintenance, "tier-" + entityClass.getSimpleName());
+		this.maintainer.setDaemon(true);
+		this.maintainer.start();
+	}
+
+	void lock() {
+		lock.lock();
+	}
+
+	void unlock() {
+		lock.unlock();
+	}
+
+	/**
+	 * Makes a writer wait, before it takes the lock, while the hot tier is over
+	 * the hard limit and the spiller is still making room.
+	 *
+	 * @throws IllegalStateException if the background thread stopped on a
+	 *                               failure, which is the cause.
+	 */
+	void awaitRoom() {
+		checkMaintainer();
+		if (estimatedHeap() <= hardLimit) {
+			return;
+		}
+		lock.lock();
+		try {
+			long firstRound = spillRounds;
+			while (estimatedHeap() > hardLimit && !closed && failure == null && spillRounds - firstRound < 2) {
+				LockSupport.unpark(maintainer);
+				spilled.awaitNanos(IDLE_NANOS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+		checkMaintainer();
+	}
+
+	/** Sets the reference mark of a key that was just read or written. */
+	void touch(String key) {
+		if (!recentlyUsed.contains(key)) {
+			recentlyUsed.add(key);
+		}
+	}
+
+	/** @return true if the key is registered in the cold tier. */
+	boolean isCold(String key) {
+		return segment.size() > 0 && segment.contains(key);
+	}
+
+	/** Accounts for an entity entering the hot tier; called under the lock. */
+	void entered(String key, T entity) {
+		touch(key);
+		hotBytes += weigh(entity);
+		wakeUpIfOverBudget();
+	}
+
+	/** Accounts for an entity deleted from the hot tier; called under the lock. */
+	void left(String key, T entity) {
+		recentlyUsed.remove(key);
+		hotBytes -= weigh(entity);
+	}
+
+	/** @return The estimated heap size of an entity. */
+	long weigh(T entity) {
+		return entityOverhead + codec.encodedSize(entity);
+	}
+
+	/** Accounts for an entity replaced by an updated copy; called under the lock. */
+	void changed(String key, T previous, T entity) {
+		touch(key);
+		hotBytes += weigh(entity) - weigh(previous);
+		wakeUpIfOverBudget();
+	}
+
+	/**
+	 * Moves an entity from the cold tier back to the hot one. A key in neither
+	 * tier is answered without taking the lock.
+	 *
+	 * @return The promoted entity, or null if the key is in neither tier.
+	 */
+	T promote(String key) {
+		if (segment.size() == 0) {
+			return null;
+		}
+		if (!segment.contains(key)) {
+			// A promotion registers the entity hot before discarding it cold, so
+			// one that finished meanwhile shows here.
+			return entities.get(key);
+		}
+		lock.lock();
+		try {
+			T entity = entities.get(key);
+			if (entity != null) {
+				return entity;
+			}
+			entity = segment.get(key);
+			if (entity == null) {
+				return null;
+			}
+			dictionaryFields.canonicalize(entity);
+			entities.put(key, entity);
+			indexes.add(key, entity);
+			segment.discard(key);
+			entered(key, entity);
+			return entity;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a view of the cold tier; the caller holds the lock, so the view
+	 * matches the hot tier as the caller sees it, and closes the view once read.
+	 *
+	 * @return The view, or null if the cold tier is empty.
+	 */
+	SpillSegment.View<T> viewCold() {
+		return segment.size() == 0 ? null : segment.view();
+	}
+
+	long getHotBytes() {
+		return estimatedHeap();
+	}
+
+	int getColdCount() {
+		return segment.size();
+	}
+
+	/** Stops the background thread and deletes the segment file. */
+	void close() {
+		closed = true;
+		LockSupport.unpark(maintainer);
+		lock.lock();
+		try {
+			spilled.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			maintainer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			segment.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** @return The estimated heap bytes of the hot tier and the reference marks. */
+	private long estimatedHeap() {
+		return hotBytes + (long) recentlyUsed.size() * MARK_OVERHEAD;
+	}
+
+	private void checkMaintainer() {
+		Throwable cause = failure;
+		if (cause != null) {
+			throw new IllegalStateException("O armazenamento em camadas parou por uma falha no segmento " + segment,
+					cause);
+		}
+	}
+
+	private void wakeUpIfOverBudget() {
+		if (estimatedHeap() > heapBudget) {
+			LockSupport.unpark(maintainer);
+		}
+	}
+
+	private void runMaintenance() {
+		try {
+			maintainUntilClosed();
+		} catch (RuntimeException | Error e) {
+			lock.lock();
+			try {
+				failure = e;
+				spilled.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void maintainUntilClosed() {
+		while (!closed) {
+			if (estimatedHeap() > heapBudget) {
+				spill();
+				lock.lock();
+				try {
+					spillRounds++;
+					spilled.signalAll();
+				} finally {
+					lock.unlock();
+				}
+			} else if (!segment.compact()) {
+				LockSupport.parkNanos(this, IDLE_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * Spills entities until the hot tier is below the low watermark, walking the
+	 * hot map at most twice so entities marked again meanwhile are not chased
+	 * forever.
+	 */
+	private void spill() {
+		List<String> keys = new ArrayList<>(SPILL_BATCH);
+		List<T> victims = new ArrayList<>(SPILL_BATCH);
+		int[] recordOffsets = new int[SPILL_BATCH];
+		int[] recordLengths = new int[SPILL_BATCH];
+		ByteBuffer records = ByteBuffer.allocate(64 * 1024);
+
+		for (int pass = 0; pass < 2 && estimatedHeap() > lowWatermark && !closed; pass++) {
+			Iterator<Map.Entry<String, T>> hot = entities.snapshot().entrySet().iterator();
+			long pending = 0;
+			while (hot.hasNext() && estimatedHeap() - pending > lowWatermark && !closed) {
+				Map.Entry<String, T> candidate = hot.next();
+				String key = candidate.getKey();
+				if (recentlyUsed.remove(key)) {
+					continue;
+				}
+				T entity = candidate.getValue();
+				byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+				int recordLength = segment.recordSize(keyBytes, entity);
+				if (records.remaining() < recordLength) {
+					if (victims.isEmpty()) {
+						records = ByteBuffer.allocate(Math.max(recordLength, records.capacity() * 2));
+					} else {
+						pending -= commit(keys, victims, recordOffsets, recordLengths, records);
+					}
+				}
+				recordOffsets[victims.size()] = records.position();
+				recordLengths[victims.size()] = recordLength;
+				segment.encodeRecord(keyBytes, entity, records);
+				keys.add(key);
+				victims.add(entity);
+				pending += weigh(entity);
+				if (victims.size() == SPILL_BATCH) {
+					pending -= commit(keys, victims, recordOffsets, recordLengths, records);
+				}
+			}
+			if (!victims.isEmpty()) {
+				commit(keys, victims, recordOffsets, recordLengths, records);
+			}
+		}
+	}
+
+	/**
+	 * Writes a batch of encoded victims and moves those still unchanged to the
+	 * cold tier.
+	 *
+	 * @return The estimated weight of the batch, moved or not.
+	 */
+	private long commit(List<String> keys, List<T> victims, int[] recordOffsets, int[] recordLengths,
+			ByteBuffer records) {
+		records.flip();
+		long base = segment.append(records);
+		records.clear();
+
+		long batchWeight = 0;
+		lock.lock();
+		try {
+			for (int i = 0; i < victims.size(); i++) {
+				String key = keys.get(i);
+				T entity = victims.get(i);
+				long weight = weigh(entity);
+				batchWeight += weight;
+				if (entities.get(key) != entity || recentlyUsed.contains(key)) {
+					continue;
+				}
+				// Indexed first, so an entity leaves the hot tier only once it is cold.
+				segment.index(key, base + recordOffsets[i], recordLengths[i]);
+				entities.remove(key);
+				indexes.remove(key, entity);
+				hotBytes -= weight;
+			}
+			spilled.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		keys.clear();
+		victims.clear();
+		return batchWeight;
+	}
+}
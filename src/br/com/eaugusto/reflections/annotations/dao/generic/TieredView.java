@@ -0,0 +1,93 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import br.com.eaugusto.reflections.annotations.dao.persistence.SpillSegment;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Read-only map over both tiers of a {@link GenericMapDAO} in tiered mode, as
+ * they were at one moment.
+ *
+ * <p>
+ * Combines a snapshot of the hot tier with a {@link SpillSegment.View} of the
+ * cold one, taken together under the tier lock. Cold entities are read from
+ * the segment file only as they are looked up or iterated, decoded anew every
+ * time and never promoted, so the map costs the copy of the cold index rather
+ * than a copy of every entity.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by the DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class TieredView<T extends Persistable> extends AbstractMap<String, T> {
+
+	private final Map<String, T> hot;
+	private final SpillSegment.View<T> cold;
+
+	TieredView(Map<String, T> hot, SpillSegment.View<T> cold) {
+		this.hot = hot;
+		this.cold = cold;
+	}
+
+	@Override
+	public int size() {
+		return hot.size() + cold.size();
+	}
+
+	@Override
+	public T get(Object key) {
+		T entity = hot.get(key);
+		if (entity != null || !(key instanceof String)) {
+			return entity;
+		}
+		return cold.get((String) key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return hot.containsKey(key) || key instanceof String && cold.contains((String) key);
+	}
+
+	@Override
+	public Set<Map.Entry<String, T>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Map.Entry<String, T>> iterator() {
+				Iterator<Map.Entry<String, T>> hotEntries = hot.entrySet().iterator();
+				Iterator<Map.Entry<String, T>> coldEntries = cold.iterator();
+				return new Iterator<>() {
+
+					@Override
+					public boolean hasNext() {
+						return hotEntries.hasNext() || coldEntries.hasNext();
+					}
+
+					@Override
+					public Map.Entry<String, T> next() {
+						if (hotEntries.hasNext()) {
+							return hotEntries.next();
+						}
+						if (coldEntries.hasNext()) {
+							return coldEntries.next();
+						}
+						throw new NoSuchElementException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return TieredView.this.size();
+			}
+		};
+	}
+}
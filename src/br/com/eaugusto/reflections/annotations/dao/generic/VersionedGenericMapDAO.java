@@ -0,0 +1,281 @@
+package br.com.eaugusto.reflections.annotations.dao.generic;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.eaugusto.reflections.annotations.codec.DictionaryEncodedFields;
+import br.com.eaugusto.reflections.annotations.dao.mvcc.Versioned;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Abstract Thread-Safe Generic DAO Implementation With Versioned,
+ * Copy-On-Write Entities.
+ *
+ * <p>
+ * Each key maps to a cell holding the current {@link Versioned} entity. Writes
+ * never modify a stored entity: an update publishes the given entity as a new
+ * version with a compare-and-set on the cell, so a reader either sees the
+ * whole previous entity or the whole new one, never a mix of their fields.
+ * Updates and deletions take no locks; only inserting or removing a cell
+ * touches the map itself.
+ * </p>
+ *
+ * <p>
+ * Versions are kept per entity: every update or deletion stores the previous
+ * version plus one, so writers of different keys share no counter. Only a
+ * registration draws from a DAO-wide counter, which gives every registration
+ * its own block of 2<sup>32</sup> versions; a key that is deleted and
+ * registered again therefore never reuses a version it had before.
+ * {@link #compareAndUpdate(Persistable, long)} applies an update only
+ * if the entity still has the version the caller read through
+ * {@link #searchVersioned(String)}, letting writers detect conflicting updates
+ * and retry with fresh data instead of locking.
+ * </p>
+ *
+ * <p>
+ * Entities passed to or returned by this DAO are shared with its readers and
+ * must not be modified afterwards; changes go through {@link #updateEntity} or
+ * {@link #compareAndUpdate}.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by this DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public abstract class VersionedGenericMapDAO<T extends Persistable> implements IGenericDAO<T> {
+
+	private final ConcurrentMap<String, AtomicReference<Versioned<T>>> cells = new ConcurrentHashMap<>();
+	/** Counts registrations; the high half of every version comes from it. */
+	private final AtomicLong registrations = new AtomicLong();
+	private final DictionaryEncodedFields dictionaryFields;
+
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder conflicts = new LongAdder();
+
+	/**
+	 * Returns the class object representing the entity type managed.
+	 *
+	 * @return Class of type T
+	 */
+	public abstract Class<T> getClassType();
+
+	/**
+	 * Constructor prepares the dictionaries of the entity class.
+	 */
+	protected VersionedGenericMapDAO() {
+		this.dictionaryFields = DictionaryEncodedFields.of(getClassType());
+	}
+
+	/**
+	 * Retrieves the unique key of the given entity through its cached
+	 * {@link KeyExtractor}.
+	 *
+	 * @param entity The entity from which to extract the key.
+	 * @return The key as a String.
+	 * @throws IllegalStateException if the {@code KeyType} declaration of the
+	 *                               entity is invalid.
+	 */
+	public String getKey(T entity) {
+		return KeyExtractor.forClass(entity.getClass()).extract(entity);
+	}
+
+	@Override
+	public Boolean register(T entity) {
+		dictionaryFields.canonicalize(entity);
+		return insert(getKey(entity), entity);
+	}
+
+	@Override
+	public void delete(String identifier) {
+		remove(identifier);
+	}
+
+	@Override
+	public void updateEntity(T entity) {
+		dictionaryFields.canonicalize(entity);
+		replace(getKey(entity), entity);
+	}
+
+	@Override
+	public T search(String identifier) {
+		Versioned<T> current = searchVersioned(identifier);
+		return current == null ? null : current.getEntity();
+	}
+
+	/**
+	 * Searches for an entity together with its version stamp.
+	 *
+	 * @param identifier The CPF or code to search.
+	 * @return The current version, or null if not found.
+	 */
+	public Versioned<T> searchVersioned(String identifier) {
+		if (identifier == null) {
+			return null;
+		}
+		AtomicReference<Versioned<T>> cell = cells.get(identifier);
+		if (cell == null) {
+			return null;
+		}
+		Versioned<T> current = cell.get();
+		return current.isDeleted() ? null : current;
+	}
+
+	/**
+	 * Replaces a registered entity only if its version is still the expected
+	 * one.
+	 *
+	 * <p>
+	 * A caller typically reads the entity with {@link #searchVersioned(String)},
+	 * builds the changed entity and calls this method with the version it read;
+	 * on null it reads again and retries.
+	 * </p>
+	 *
+	 * @param entity          The entity containing updated information.
+	 * @param expectedVersion The version the update was based on.
+	 * @return The new version, or null if the entity is not registered or was
+	 *         changed since the expected version.
+	 */
+	public Versioned<T> compareAndUpdate(T entity, long expectedVersion) {
+		dictionaryFields.canonicalize(entity);
+		String key = getKey(entity);
+		AtomicReference<Versioned<T>> cell = key == null ? null : cells.get(key);
+		Versioned<T> current = cell == null ? null : cell.get();
+		if (current == null || current.isDeleted() || current.getVersion() != expectedVersion) {
+			conflicts.increment();
+			return null;
+		}
+		Versioned<T> next = new Versioned<>(entity, current.getVersion() + 1);
+		if (!cell.compareAndSet(current, next)) {
+			conflicts.increment();
+			return null;
+		}
+		return next;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned list is a copy of the entities registered while it was being
+	 * built.
+	 * </p>
+	 */
+	@Override
+	public Collection<T> searchAll() {
+		List<T> entities = new ArrayList<>(cells.size());
+		for (AtomicReference<Versioned<T>> eachCell : cells.values()) {
+			T entity = eachCell.get().getEntity();
+			if (entity != null) {
+				entities.add(entity);
+			}
+		}
+		return entities;
+	}
+
+	@Override
+	public BitSet deleteAll(Collection<String> identifiers) {
+		BitSet deleted = new BitSet(identifiers.size());
+		int index = 0;
+		for (String eachIdentifier : identifiers) {
+			if (remove(eachIdentifier)) {
+				deleted.set(index);
+			}
+			index++;
+		}
+		return deleted;
+	}
+
+	@Override
+	public BitSet updateAll(Collection<? extends T> entities) {
+		BitSet updated = new BitSet(entities.size());
+		int index = 0;
+		for (T eachEntity : entities) {
+			dictionaryFields.canonicalize(eachEntity);
+			if (replace(getKey(eachEntity), eachEntity)) {
+				updated.set(index);
+			}
+			index++;
+		}
+		return updated;
+	}
+
+	/**
+	 * @return The times a write lost a compare-and-set to another writer of the
+	 *         same key and was retried.
+	 */
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	/**
+	 * @return The calls to {@link #compareAndUpdate} rejected because the entity
+	 *         had changed or was gone.
+	 */
+	public long getConflicts() {
+		return conflicts.sum();
+	}
+
+	private boolean insert(String key, T entity) {
+		AtomicReference<Versioned<T>> fresh = null;
+		while (true) {
+			AtomicReference<Versioned<T>> cell = cells.get(key);
+			if (cell == null) {
+				if (fresh == null) {
+					fresh = new AtomicReference<>(new Versioned<>(entity, registrations.incrementAndGet() << 32));
+				}
+				if (cells.putIfAbsent(key, fresh) == null) {
+					return true;
+				}
+			} else if (!cell.get().isDeleted()) {
+				return false;
+			} else {
+				// The deleting writer has yet to remove its cell; do it for it.
+				cells.remove(key, cell);
+			}
+			retries.increment();
+		}
+	}
+
+	private boolean replace(String key, T entity) {
+		AtomicReference<Versioned<T>> cell = key == null ? null : cells.get(key);
+		if (cell == null) {
+			return false;
+		}
+		while (true) {
+			Versioned<T> current = cell.get();
+			if (current.isDeleted()) {
+				return false;
+			}
+			if (cell.compareAndSet(current, new Versioned<>(entity, current.getVersion() + 1))) {
+				return true;
+			}
+			retries.increment();
+		}
+	}
+
+	private boolean remove(String key) {
+		AtomicReference<Versioned<T>> cell = key == null ? null : cells.get(key);
+		if (cell == null) {
+			return false;
+		}
+		while (true) {
+			Versioned<T> current = cell.get();
+			if (current.isDeleted()) {
+				return false;
+			}
+			if (cell.compareAndSet(current, new Versioned<>(null, current.getVersion() + 1))) {
+				cells.remove(key, cell);
+				return true;
+			}
+			retries.increment();
+		}
+	}
+}
@@ -0,0 +1,391 @@
+package br.com.eaugusto.reflections.annotations.dao.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Ordered index of entities by a numeric value, stored as primitive doubles.
+ *
+ * <p>
+ * Entries are kept sorted by value, then by unique identifier, in a sequence
+ * of blocks of at most {@value #BLOCK_CAPACITY} entries. Each block holds three
+ * parallel arrays: the values themselves as {@code double[]}, the identifiers
+ * and the entities. An insertion or removal finds its block by binary search
+ * over the first entry of each block and shifts only the tail of that block,
+ * so it costs O(log n + B) instead of O(n); a full block is split in two and
+ * nearly empty neighbours are merged. Range, top-N and bottom-N queries use
+ * binary search and run in O(log n + k); counting a range is O(log n) once the
+ * block offsets, rebuilt lazily after writes in O(n / B), are known. This
+ * class is not thread-safe; it relies on the synchronization of its owner.
+ * </p>
+ *
+ * @param <T> The type of persistable entity indexed.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class DoubleRangeIndex<T extends Persistable> {
+
+	private static final int BLOCK_CAPACITY = 512;
+	private static final int HALF_BLOCK = BLOCK_CAPACITY / 2;
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** A sorted run of entries; every entry is above all entries of the previous block. */
+	private static final class Block {
+
+		double[] values = new double[INITIAL_CAPACITY];
+		String[] keys = new String[INITIAL_CAPACITY];
+		Object[] entities = new Object[INITIAL_CAPACITY];
+		int size;
+
+		void insert(int position, double value, String key, Object entity) {
+			if (size == values.length) {
+				int newCapacity = Math.min(values.length * 2, BLOCK_CAPACITY);
+				values = Arrays.copyOf(values, newCapacity);
+				keys = Arrays.copyOf(keys, newCapacity);
+				entities = Arrays.copyOf(entities, newCapacity);
+			}
+			int moved = size - position;
+			System.arraycopy(values, position, values, position + 1, moved);
+			System.arraycopy(keys, position, keys, position + 1, moved);
+			System.arraycopy(entities, position, entities, position + 1, moved);
+			values[position] = value;
+			keys[position] = key;
+			entities[position] = entity;
+			size++;
+		}
+
+		void delete(int position) {
+			int moved = size - position - 1;
+			System.arraycopy(values, position + 1, values, position, moved);
+			System.arraycopy(keys, position + 1, keys, position, moved);
+			System.arraycopy(entities, position + 1, entities, position, moved);
+			size--;
+			keys[size] = null;
+			entities[size] = null;
+		}
+
+		/** Moves every entry from {@code position} on to the end of {@code target}. */
+		void moveTail(int position, Block target) {
+			int moved = size - position;
+			int needed = target.size + moved;
+			if (needed > target.values.length) {
+				int newCapacity = Math.max(needed, Math.min(target.values.length * 2, BLOCK_CAPACITY));
+				target.values = Arrays.copyOf(target.values, newCapacity);
+				target.keys = Arrays.copyOf(target.keys, newCapacity);
+				target.entities = Arrays.copyOf(target.entities, newCapacity);
+			}
+			System.arraycopy(values, position, target.values, target.size, moved);
+			System.arraycopy(keys, position, target.keys, target.size, moved);
+			System.arraycopy(entities, position, target.entities, target.size, moved);
+			target.size = needed;
+			Arrays.fill(keys, position, size, null);
+			Arrays.fill(entities, position, size, null);
+			size = position;
+		}
+
+		/**
+		 * Binary search for the exact (value, key) entry.
+		 *
+		 * @return The position of the entry, or {@code -(insertionPoint + 1)}.
+		 */
+		int position(double value, String key) {
+			int low = 0;
+			int high = size - 1;
+			while (low <= high) {
+				int middle = (low + high) >>> 1;
+				int comparison = compare(values[middle], keys[middle], value, key);
+				if (comparison < 0) {
+					low = middle + 1;
+				} else if (comparison > 0) {
+					high = middle - 1;
+				} else {
+					return middle;
+				}
+			}
+			return -(low + 1);
+		}
+
+		/** @return The first position whose value is not lower than {@code min}. */
+		int lowerBound(double min) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (Double.compare(values[middle], min) < 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/** @return The first position whose value is greater than {@code max}. */
+		int upperBound(double max) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (Double.compare(values[middle], max) <= 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+	}
+
+	private Block[] blocks = new Block[INITIAL_CAPACITY];
+	private int blockCount;
+	private int size;
+
+	/** Number of entries before each block, valid only while {@link #startsValid}. */
+	private int[] starts = new int[INITIAL_CAPACITY];
+	private boolean startsValid;
+
+	/** @return The number of indexed entities. */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds an entity under the given value.
+	 *
+	 * @param value  The indexed value.
+	 * @param key    The unique identifier of the entity.
+	 * @param entity The entity.
+	 */
+	public void add(double value, String key, T entity) {
+		if (blockCount == 0) {
+			insertBlock(0, new Block());
+		}
+		int blockIndex = blockFor(value, key);
+		Block block = blocks[blockIndex];
+		int position = block.position(value, key);
+		if (position >= 0) {
+			block.entities[position] = entity;
+			return;
+		}
+
+		position = -position - 1;
+		if (block.size == BLOCK_CAPACITY) {
+			Block upperHalf = new Block();
+			block.moveTail(HALF_BLOCK, upperHalf);
+			insertBlock(blockIndex + 1, upperHalf);
+			if (position > HALF_BLOCK) {
+				block = upperHalf;
+				position -= HALF_BLOCK;
+			}
+		}
+		block.insert(position, value, key, entity);
+		size++;
+		startsValid = false;
+	}
+
+	/**
+	 * Removes the entry previously added under the given value and identifier.
+	 *
+	 * @param value The value the entity was indexed under.
+	 * @param key   The unique identifier of the entity.
+	 */
+	public void remove(double value, String key) {
+		if (blockCount == 0) {
+			return;
+		}
+		int blockIndex = blockFor(value, key);
+		Block block = blocks[blockIndex];
+		int position = block.position(value, key);
+		if (position < 0) {
+			return;
+		}
+
+		block.delete(position);
+		size--;
+		startsValid = false;
+		if (block.size == 0) {
+			removeBlock(blockIndex);
+		} else if (blockIndex + 1 < blockCount && block.size + blocks[blockIndex + 1].size <= HALF_BLOCK) {
+			blocks[blockIndex + 1].moveTail(0, block);
+			removeBlock(blockIndex + 1);
+		} else if (blockIndex > 0 && block.size + blocks[blockIndex - 1].size <= HALF_BLOCK) {
+			block.moveTail(0, blocks[blockIndex - 1]);
+			removeBlock(blockIndex);
+		}
+	}
+
+	/**
+	 * Returns the entities whose value lies in {@code [min, max]}, in ascending
+	 * order of value.
+	 *
+	 * @param min The lower bound, inclusive.
+	 * @param max The upper bound, inclusive.
+	 * @return The matching entities.
+	 */
+	public List<T> findInRange(double min, double max) {
+		List<T> matches = new ArrayList<>();
+		int blockIndex = firstBlockNotBelow(min);
+		if (blockIndex == blockCount) {
+			return matches;
+		}
+		int position = blocks[blockIndex].lowerBound(min);
+		for (; blockIndex < blockCount; blockIndex++, position = 0) {
+			Block block = blocks[blockIndex];
+			for (; position < block.size; position++) {
+				if (Double.compare(block.values[position], max) > 0) {
+					return matches;
+				}
+				matches.add(entityAt(block, position));
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Counts the entities whose value lies in {@code [min, max]}.
+	 *
+	 * @param min The lower bound, inclusive.
+	 * @param max The upper bound, inclusive.
+	 * @return The number of matching entities.
+	 */
+	public int countInRange(double min, double max) {
+		ensureStarts();
+		int from = firstBlockNotBelow(min);
+		int lower = from == blockCount ? size : starts[from] + blocks[from].lowerBound(min);
+		int to = firstBlockAbove(max);
+		int upper = to == blockCount ? size : starts[to] + blocks[to].upperBound(max);
+		return Math.max(0, upper - lower);
+	}
+
+	/**
+	 * Returns the entities with the highest values, in descending order.
+	 *
+	 * @param limit The maximum number of entities to return.
+	 * @return Up to {@code limit} entities.
+	 */
+	public List<T> findTop(int limit) {
+		int count = Math.min(Math.max(limit, 0), size);
+		List<T> matches = new ArrayList<>(count);
+		for (int blockIndex = blockCount - 1; blockIndex >= 0 && matches.size() < count; blockIndex--) {
+			Block block = blocks[blockIndex];
+			for (int i = block.size - 1; i >= 0 && matches.size() < count; i--) {
+				matches.add(entityAt(block, i));
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the entities with the lowest values, in ascending order.
+	 *
+	 * @param limit The maximum number of entities to return.
+	 * @return Up to {@code limit} entities.
+	 */
+	public List<T> findBottom(int limit) {
+		int count = Math.min(Math.max(limit, 0), size);
+		List<T> matches = new ArrayList<>(count);
+		for (int blockIndex = 0; blockIndex < blockCount && matches.size() < count; blockIndex++) {
+			Block block = blocks[blockIndex];
+			for (int i = 0; i < block.size && matches.size() < count; i++) {
+				matches.add(entityAt(block, i));
+			}
+		}
+		return matches;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T entityAt(Block block, int position) {
+		return (T) block.entities[position];
+	}
+
+	private static int compare(double value, String key, double otherValue, String otherKey) {
+		int comparison = Double.compare(value, otherValue);
+		return comparison != 0 ? comparison : key.compareTo(otherKey);
+	}
+
+	/** @return The last block whose first entry is not above (value, key), or the first block. */
+	private int blockFor(double value, String key) {
+		int low = 1;
+		int high = blockCount - 1;
+		int found = 0;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			Block block = blocks[middle];
+			if (compare(block.values[0], block.keys[0], value, key) <= 0) {
+				found = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return found;
+	}
+
+	/** @return The first block whose last value is not lower than {@code min}, or the block count. */
+	private int firstBlockNotBelow(double min) {
+		int low = 0;
+		int high = blockCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			Block block = blocks[middle];
+			if (Double.compare(block.values[block.size - 1], min) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/** @return The first block whose last value is greater than {@code max}, or the block count. */
+	private int firstBlockAbove(double max) {
+		int low = 0;
+		int high = blockCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			Block block = blocks[middle];
+			if (Double.compare(block.values[block.size - 1], max) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void ensureStarts() {
+		if (startsValid) {
+			return;
+		}
+		if (starts.length < blocks.length) {
+			starts = new int[blocks.length];
+		}
+		int before = 0;
+		for (int i = 0; i < blockCount; i++) {
+			starts[i] = before;
+			before += blocks[i].size;
+		}
+		startsValid = true;
+	}
+
+	private void insertBlock(int blockIndex, Block block) {
+		if (blockCount == blocks.length) {
+			blocks = Arrays.copyOf(blocks, blocks.length * 2);
+		}
+		System.arraycopy(blocks, blockIndex, blocks, blockIndex + 1, blockCount - blockIndex);
+		blocks[blockIndex] = block;
+		blockCount++;
+		startsValid = false;
+	}
+
+	private void removeBlock(int blockIndex) {
+		System.arraycopy(blocks, blockIndex + 1, blocks, blockIndex, blockCount - blockIndex - 1);
+		blockCount--;
+		blocks[blockCount] = null;
+		startsValid = false;
+	}
+}
@@ -0,0 +1,202 @@
+package br.com.eaugusto.reflections.annotations.dao.index;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.annotation.Indexed;
+import br.com.eaugusto.reflections.annotations.annotation.RangeIndexed;
+
+/**
+ * Index metadata of an entity class: the fields annotated with {@link Indexed}
+ * or {@link RangeIndexed} and a bound getter for each of them.
+ *
+ * <p>
+ * The fields are discovered by reflection once per class and cached in a
+ * {@link ClassValue}; reading an indexed value afterwards goes through a
+ * {@link MethodHandle} with no reflective lookup.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class IndexedFields {
+
+	/** Getter shape every field handle is adapted to: {@code (Object)Object}. */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** Getter shape of range-indexed field handles: {@code (Object)double}. */
+	private static final MethodType DOUBLE_GETTER_TYPE = MethodType.methodType(double.class, Object.class);
+
+	private static final ClassValue<IndexedFields> METADATA = new ClassValue<>() {
+		@Override
+		protected IndexedFields computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	private final String className;
+	private final String[] names;
+	private final MethodHandle[] getters;
+	private final String[] rangeNames;
+	private final MethodHandle[] rangeGetters;
+
+	private IndexedFields(String className, String[] names, MethodHandle[] getters, String[] rangeNames,
+			MethodHandle[] rangeGetters) {
+		this.className = className;
+		this.names = names;
+		this.getters = getters;
+		this.rangeNames = rangeNames;
+		this.rangeGetters = rangeGetters;
+	}
+
+	/**
+	 * Returns the cached index metadata for the given entity class.
+	 *
+	 * @param type The entity class.
+	 * @return The metadata for that class, possibly with no indexed fields.
+	 */
+	public static IndexedFields of(Class<?> type) {
+		return METADATA.get(type);
+	}
+
+	/** @return The number of indexed fields. */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * @param position The position of the indexed field.
+	 * @return The name of the indexed field at that position.
+	 */
+	public String name(int position) {
+		return names[position];
+	}
+
+	/**
+	 * Finds the position of an indexed field by its name.
+	 *
+	 * @param fieldName The field name.
+	 * @return The position of the field.
+	 * @throws IllegalArgumentException if the field is not annotated with
+	 *                                  {@link Indexed}.
+	 */
+	public int positionOf(String fieldName) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(
+				"Campo '" + fieldName + "' não é anotado com @Indexed na classe " + className);
+	}
+
+	/**
+	 * Reads the value of an indexed field from the given entity.
+	 *
+	 * @param position The position of the indexed field.
+	 * @param entity   The entity to read from.
+	 * @return The field value, boxed if primitive.
+	 */
+	public Object read(int position, Object entity) {
+		try {
+			return (Object) getters[position].invokeExact(entity);
+		} catch (Throwable e) {
+			throw new IllegalStateException(
+					"Não foi possível ler o campo '" + names[position] + "' na classe " + className, e);
+		}
+	}
+
+	/** @return The number of range-indexed fields. */
+	public int rangeSize() {
+		return rangeNames.length;
+	}
+
+	/**
+	 * @param position The position of the range-indexed field.
+	 * @return The name of the range-indexed field at that position.
+	 */
+	public String rangeName(int position) {
+		return rangeNames[position];
+	}
+
+	/**
+	 * Finds the position of a range-indexed field by its name.
+	 *
+	 * @param fieldName The field name.
+	 * @return The position of the field.
+	 * @throws IllegalArgumentException if the field is not annotated with
+	 *                                  {@link RangeIndexed}.
+	 */
+	public int rangePositionOf(String fieldName) {
+		for (int i = 0; i < rangeNames.length; i++) {
+			if (rangeNames[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(
+				"Campo '" + fieldName + "' não é anotado com @RangeIndexed na classe " + className);
+	}
+
+	/**
+	 * Reads the value of a range-indexed field from the given entity, without
+	 * boxing.
+	 *
+	 * @param position The position of the range-indexed field.
+	 * @param entity   The entity to read from.
+	 * @return The field value widened to double.
+	 */
+	public double readDouble(int position, Object entity) {
+		try {
+			return (double) rangeGetters[position].invokeExact(entity);
+		} catch (Throwable e) {
+			throw new IllegalStateException(
+					"Não foi possível ler o campo '" + rangeNames[position] + "' na classe " + className, e);
+		}
+	}
+
+	private static IndexedFields resolve(Class<?> type) {
+		List<String> names = new ArrayList<>();
+		List<MethodHandle> getters = new ArrayList<>();
+		List<String> rangeNames = new ArrayList<>();
+		List<MethodHandle> rangeGetters = new ArrayList<>();
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			for (Field eachField : type.getDeclaredFields()) {
+				if (Modifier.isStatic(eachField.getModifiers())) {
+					continue;
+				}
+				if (eachField.isAnnotationPresent(Indexed.class)) {
+					names.add(eachField.getName());
+					getters.add(lookup.unreflectGetter(eachField).asType(GETTER_TYPE));
+				}
+				if (eachField.isAnnotationPresent(RangeIndexed.class)) {
+					rangeNames.add(eachField.getName());
+					rangeGetters.add(asDoubleGetter(lookup.unreflectGetter(eachField), eachField));
+				}
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(
+					"Não foi possível acessar os campos indexados da classe " + type.getSimpleName(), e);
+		}
+
+		return new IndexedFields(type.getSimpleName(), names.toArray(new String[0]),
+				getters.toArray(new MethodHandle[0]), rangeNames.toArray(new String[0]),
+				rangeGetters.toArray(new MethodHandle[0]));
+	}
+
+	private static MethodHandle asDoubleGetter(MethodHandle getter, Field field) {
+		try {
+			return getter.asType(DOUBLE_GETTER_TYPE);
+		} catch (WrongMethodTypeException e) {
+			throw new IllegalStateException("Campo '" + field.getName() + "' anotado com @RangeIndexed na classe "
+					+ field.getDeclaringClass().getSimpleName() + " deve ser numérico.", e);
+		}
+	}
+}
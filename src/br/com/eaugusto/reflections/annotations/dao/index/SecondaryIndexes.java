@@ -0,0 +1,271 @@
+package br.com.eaugusto.reflections.annotations.dao.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import br.com.eaugusto.reflections.annotations.annotation.Indexed;
+import br.com.eaugusto.reflections.annotations.annotation.RangeIndexed;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Secondary indexes over the {@link Indexed} and {@link RangeIndexed} fields of
+ * an entity class.
+ *
+ * <p>
+ * Each {@link Indexed} field has a map from field value to the entities holding
+ * that value, keyed by their unique identifier. Each {@link RangeIndexed} field
+ * has a {@link DoubleRangeIndex}, and so does each value of an {@link Indexed}
+ * field for each {@link RangeIndexed} one, so rankings within a value, such as
+ * the most expensive products of a brand, are read directly from an ordered
+ * index at the cost of one more entry per pair of fields. The owning DAO must
+ * report every
+ * registration, update and deletion so the indexes stay consistent. This class
+ * is not thread-safe; it relies on the synchronization of its owner.
+ * </p>
+ *
+ * @param <T> The type of persistable entity indexed.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class SecondaryIndexes<T extends Persistable> {
+
+	private final IndexedFields fields;
+	private final Map<Object, Map<String, T>>[] indexes;
+	private final DoubleRangeIndex<T>[] rangeIndexes;
+
+	/**
+	 * Range index per value of each {@link Indexed} field, at
+	 * {@code indexedPosition * rangeIndexes.length + rangePosition}.
+	 */
+	private final Map<Object, DoubleRangeIndex<T>>[] partitions;
+
+	/**
+	 * Creates empty indexes for the indexed fields of the given class.
+	 *
+	 * @param entityClass The entity class whose fields are indexed.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public SecondaryIndexes(Class<T> entityClass) {
+		this.fields = IndexedFields.of(entityClass);
+		this.indexes = new Map[fields.size()];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = new HashMap<>();
+		}
+		this.rangeIndexes = new DoubleRangeIndex[fields.rangeSize()];
+		for (int i = 0; i < rangeIndexes.length; i++) {
+			rangeIndexes[i] = new DoubleRangeIndex<>();
+		}
+		this.partitions = new Map[indexes.length * rangeIndexes.length];
+		for (int i = 0; i < partitions.length; i++) {
+			partitions[i] = new HashMap<>();
+		}
+	}
+
+	/** @return true if the entity class has no indexed field. */
+	public boolean isEmpty() {
+		return indexes.length == 0 && rangeIndexes.length == 0;
+	}
+
+	/**
+	 * Adds a newly registered entity to every index.
+	 *
+	 * @param key    The unique identifier of the entity.
+	 * @param entity The registered entity.
+	 */
+	public void add(String key, T entity) {
+		for (int i = 0; i < indexes.length; i++) {
+			Object value = fields.read(i, entity);
+			addEntry(i, value, key, entity);
+			for (int j = 0; j < rangeIndexes.length; j++) {
+				addPartitionEntry(i, value, j, fields.readDouble(j, entity), key, entity);
+			}
+		}
+		for (int i = 0; i < rangeIndexes.length; i++) {
+			rangeIndexes[i].add(fields.readDouble(i, entity), key, entity);
+		}
+	}
+
+	/**
+	 * Removes a deleted entity from every index.
+	 *
+	 * @param key    The unique identifier of the entity.
+	 * @param entity The entity being deleted, with its current values.
+	 */
+	public void remove(String key, T entity) {
+		for (int i = 0; i < indexes.length; i++) {
+			Object value = fields.read(i, entity);
+			removeEntry(i, value, key);
+			for (int j = 0; j < rangeIndexes.length; j++) {
+				removePartitionEntry(i, value, j, fields.readDouble(j, entity), key);
+			}
+		}
+		for (int i = 0; i < rangeIndexes.length; i++) {
+			rangeIndexes[i].remove(fields.readDouble(i, entity), key);
+		}
+	}
+
+	/**
+	 * Moves the entries of a registered entity to the updated copy that replaces
+	 * it. Entries whose values the update left unchanged keep their place and are
+	 * only pointed at the new instance.
+	 *
+	 * @param key      The unique identifier of the entity.
+	 * @param previous The entity being replaced, with its values unchanged.
+	 * @param entity   The updated copy that replaces it.
+	 */
+	public void replace(String key, T previous, T entity) {
+		double[] previousNumbers = new double[rangeIndexes.length];
+		double[] currentNumbers = new double[rangeIndexes.length];
+		boolean[] numberChanged = new boolean[rangeIndexes.length];
+		for (int i = 0; i < rangeIndexes.length; i++) {
+			previousNumbers[i] = fields.readDouble(i, previous);
+			currentNumbers[i] = fields.readDouble(i, entity);
+			if (Double.compare(previousNumbers[i], currentNumbers[i]) != 0) {
+				numberChanged[i] = true;
+				rangeIndexes[i].remove(previousNumbers[i], key);
+			}
+			rangeIndexes[i].add(currentNumbers[i], key, entity);
+		}
+		for (int i = 0; i < indexes.length; i++) {
+			Object previousValue = fields.read(i, previous);
+			Object currentValue = fields.read(i, entity);
+			boolean valueChanged = !Objects.equals(previousValue, currentValue);
+			if (valueChanged) {
+				removeEntry(i, previousValue, key);
+			}
+			addEntry(i, currentValue, key, entity);
+			for (int j = 0; j < rangeIndexes.length; j++) {
+				if (valueChanged || numberChanged[j]) {
+					removePartitionEntry(i, previousValue, j, previousNumbers[j], key);
+				}
+				addPartitionEntry(i, currentValue, j, currentNumbers[j], key, entity);
+			}
+		}
+	}
+
+	/**
+	 * Returns the entities whose indexed field holds the given value.
+	 *
+	 * @param fieldName The name of a field annotated with {@link Indexed}.
+	 * @param value     The value to look up.
+	 * @return A new list of the matching entities, empty if none; later writes do
+	 *         not show through it.
+	 * @throws IllegalArgumentException if the field is not indexed.
+	 */
+	public Collection<T> find(String fieldName, Object value) {
+		Map<String, T> matches = indexes[fields.positionOf(fieldName)].get(value);
+		return matches == null ? new ArrayList<>() : new ArrayList<>(matches.values());
+	}
+
+	/**
+	 * Returns the entities whose range-indexed field lies in {@code [min, max]},
+	 * in ascending order of value.
+	 *
+	 * @param fieldName The name of a field annotated with {@link RangeIndexed}.
+	 * @param min       The lower bound, inclusive.
+	 * @param max       The upper bound, inclusive.
+	 * @return The matching entities.
+	 * @throws IllegalArgumentException if the field is not range-indexed.
+	 */
+	public List<T> findInRange(String fieldName, double min, double max) {
+		return rangeIndexes[fields.rangePositionOf(fieldName)].findInRange(min, max);
+	}
+
+	/**
+	 * Counts the entities whose range-indexed field lies in {@code [min, max]}.
+	 *
+	 * @param fieldName The name of a field annotated with {@link RangeIndexed}.
+	 * @param min       The lower bound, inclusive.
+	 * @param max       The upper bound, inclusive.
+	 * @return The number of matching entities.
+	 * @throws IllegalArgumentException if the field is not range-indexed.
+	 */
+	public int countInRange(String fieldName, double min, double max) {
+		return rangeIndexes[fields.rangePositionOf(fieldName)].countInRange(min, max);
+	}
+
+	/**
+	 * Returns the entities with the highest values of a range-indexed field.
+	 *
+	 * @param fieldName The name of a field annotated with {@link RangeIndexed}.
+	 * @param limit     The maximum number of entities to return.
+	 * @return Up to {@code limit} entities, in descending order of value.
+	 * @throws IllegalArgumentException if the field is not range-indexed.
+	 */
+	public List<T> findTop(String fieldName, int limit) {
+		return rangeIndexes[fields.rangePositionOf(fieldName)].findTop(limit);
+	}
+
+	/**
+	 * Returns the entities with the lowest values of a range-indexed field.
+	 *
+	 * @param fieldName The name of a field annotated with {@link RangeIndexed}.
+	 * @param limit     The maximum number of entities to return.
+	 * @return Up to {@code limit} entities, in ascending order of value.
+	 * @throws IllegalArgumentException if the field is not range-indexed.
+	 */
+	public List<T> findBottom(String fieldName, int limit) {
+		return rangeIndexes[fields.rangePositionOf(fieldName)].findBottom(limit);
+	}
+
+	/**
+	 * Returns the entities holding a value in an {@link Indexed} field with the
+	 * highest values of a {@link RangeIndexed} field, in O(log n + k).
+	 *
+	 * @param fieldName      The name of a field annotated with {@link Indexed}.
+	 * @param value          The value to look up.
+	 * @param rangeFieldName The name of a field annotated with
+	 *                       {@link RangeIndexed}.
+	 * @param limit          The maximum number of entities to return.
+	 * @return Up to {@code limit} matching entities, in descending order of the
+	 *         range-indexed value.
+	 * @throws IllegalArgumentException if either field is not indexed as
+	 *                                  required.
+	 */
+	public List<T> findTopWhere(String fieldName, Object value, String rangeFieldName, int limit) {
+		DoubleRangeIndex<T> partition = partition(fields.positionOf(fieldName), fields.rangePositionOf(rangeFieldName))
+				.get(value);
+		return partition == null ? new ArrayList<>() : partition.findTop(limit);
+	}
+
+	private Map<Object, DoubleRangeIndex<T>> partition(int position, int rangePosition) {
+		return partitions[position * rangeIndexes.length + rangePosition];
+	}
+
+	private void addPartitionEntry(int position, Object value, int rangePosition, double number, String key,
+			T entity) {
+		partition(position, rangePosition).computeIfAbsent(value, indexedValue -> new DoubleRangeIndex<>())
+				.add(number, key, entity);
+	}
+
+	private void removePartitionEntry(int position, Object value, int rangePosition, double number, String key) {
+		Map<Object, DoubleRangeIndex<T>> partition = partition(position, rangePosition);
+		DoubleRangeIndex<T> matches = partition.get(value);
+		if (matches != null) {
+			matches.remove(number, key);
+			if (matches.size() == 0) {
+				partition.remove(value);
+			}
+		}
+	}
+
+	private void addEntry(int position, Object value, String key, T entity) {
+		indexes[position].computeIfAbsent(value, indexedValue -> new LinkedHashMap<>()).put(key, entity);
+	}
+
+	private void removeEntry(int position, Object value, String key) {
+		Map<String, T> matches = indexes[position].get(value);
+		if (matches != null) {
+			matches.remove(key);
+			if (matches.isEmpty()) {
+				indexes[position].remove(value);
+			}
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Latency histograms and outcome counters of the DAO operations on one entity
+ * class.
+ *
+ * <p>
+ * There is one instance per entity class, shared by every
+ * {@link InstrumentedDAO} of that class and registered in the platform MBean
+ * server as a {@link DaoMetricsMXBean} the first time it is requested.
+ * Counters are {@link LongAdder}s and histograms are
+ * {@link LatencyHistogram}s, so recording never locks.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class DaoMetrics implements DaoMetricsMXBean {
+
+	/** JMX domain of the registered beans. */
+	public static final String DOMAIN = "br.com.eaugusto.reflections.annotations";
+
+	private static final ClassValue<DaoMetrics> METRICS = new ClassValue<>() {
+		@Override
+		protected DaoMetrics computeValue(Class<?> type) {
+			DaoMetrics metrics = new DaoMetrics(type.getSimpleName());
+			metrics.registerMBean();
+			return metrics;
+		}
+	};
+
+	private final String entityName;
+	private final LatencyHistogram[] histograms = new LatencyHistogram[DaoOperation.values().length];
+	private final LongAdder registered = new LongAdder();
+	private final LongAdder duplicates = new LongAdder();
+	private final LongAdder searchHits = new LongAdder();
+	private final LongAdder searchMisses = new LongAdder();
+	private final LongAdder updates = new LongAdder();
+	private final LongAdder deletes = new LongAdder();
+
+	private DaoMetrics(String entityName) {
+		this.entityName = entityName;
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Returns the metrics of an entity class, creating and registering them on
+	 * first use.
+	 *
+	 * @param entityClass The entity class.
+	 * @return Its metrics.
+	 * @throws IllegalStateException if the MBean cannot be registered.
+	 */
+	public static DaoMetrics forClass(Class<?> entityClass) {
+		return METRICS.get(entityClass);
+	}
+
+	/**
+	 * Records the latency of one operation.
+	 *
+	 * @param operation The operation.
+	 * @param nanos     Its duration in nanoseconds.
+	 */
+	public void record(DaoOperation operation, long nanos) {
+		histograms[operation.ordinal()].record(nanos);
+	}
+
+	void countRegistered(long count) {
+		registered.add(count);
+	}
+
+	void countDuplicates(long count) {
+		duplicates.add(count);
+	}
+
+	void countSearches(long hits, long misses) {
+		searchHits.add(hits);
+		searchMisses.add(misses);
+	}
+
+	void countUpdates(long count) {
+		updates.add(count);
+	}
+
+	void countDeletes(long count) {
+		deletes.add(count);
+	}
+
+	/**
+	 * Copies every counter and histogram into an immutable snapshot.
+	 *
+	 * @return The snapshot.
+	 */
+	public DaoMetricsSnapshot snapshot() {
+		Map<DaoOperation, LatencySnapshot> latencies = new EnumMap<>(DaoOperation.class);
+		for (DaoOperation eachOperation : DaoOperation.values()) {
+			latencies.put(eachOperation, histograms[eachOperation.ordinal()].snapshot());
+		}
+		return new DaoMetricsSnapshot(entityName, registered.sum(), duplicates.sum(), searchHits.sum(),
+				searchMisses.sum(), updates.sum(), deletes.sum(), latencies);
+	}
+
+	@Override
+	public void reset() {
+		for (LatencyHistogram eachHistogram : histograms) {
+			eachHistogram.reset();
+		}
+		registered.reset();
+		duplicates.reset();
+		searchHits.reset();
+		searchMisses.reset();
+		updates.reset();
+		deletes.reset();
+	}
+
+	@Override
+	public long getRegistered() {
+		return registered.sum();
+	}
+
+	@Override
+	public long getDuplicates() {
+		return duplicates.sum();
+	}
+
+	@Override
+	public long getSearchHits() {
+		return searchHits.sum();
+	}
+
+	@Override
+	public long getSearchMisses() {
+		return searchMisses.sum();
+	}
+
+	@Override
+	public long getUpdates() {
+		return updates.sum();
+	}
+
+	@Override
+	public long getDeletes() {
+		return deletes.sum();
+	}
+
+	@Override
+	public long getRegisterP50() {
+		return latency(DaoOperation.REGISTER).getP50();
+	}
+
+	@Override
+	public long getRegisterP99() {
+		return latency(DaoOperation.REGISTER).getP99();
+	}
+
+	@Override
+	public long getRegisterP999() {
+		return latency(DaoOperation.REGISTER).getP999();
+	}
+
+	@Override
+	public long getSearchP50() {
+		return latency(DaoOperation.SEARCH).getP50();
+	}
+
+	@Override
+	public long getSearchP99() {
+		return latency(DaoOperation.SEARCH).getP99();
+	}
+
+	@Override
+	public long getSearchP999() {
+		return latency(DaoOperation.SEARCH).getP999();
+	}
+
+	@Override
+	public long getUpdateP50() {
+		return latency(DaoOperation.UPDATE).getP50();
+	}
+
+	@Override
+	public long getUpdateP99() {
+		return latency(DaoOperation.UPDATE).getP99();
+	}
+
+	@Override
+	public long getUpdateP999() {
+		return latency(DaoOperation.UPDATE).getP999();
+	}
+
+	@Override
+	public long getDeleteP50() {
+		return latency(DaoOperation.DELETE).getP50();
+	}
+
+	@Override
+	public long getDeleteP99() {
+		return latency(DaoOperation.DELETE).getP99();
+	}
+
+	@Override
+	public long getDeleteP999() {
+		return latency(DaoOperation.DELETE).getP999();
+	}
+
+	private LatencySnapshot latency(DaoOperation operation) {
+		return histograms[operation.ordinal()].snapshot();
+	}
+
+	private void registerMBean() {
+		try {
+			ObjectName name = new ObjectName(DOMAIN + ":type=DaoMetrics,entity=" + ObjectName.quote(entityName));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+		} catch (InstanceAlreadyExistsException e) {
+			// Another class with the same simple name is already exposed; its DAOs
+			// keep their own metrics, reachable through the snapshot API.
+		} catch (JMException e) {
+			throw new IllegalStateException("Não foi possível registrar as métricas de " + entityName + " no JMX", e);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+/**
+ * JMX view of the {@link DaoMetrics} of one entity class, registered under
+ * {@value DaoMetrics#DOMAIN}{@code :type=DaoMetrics,entity=<SimpleName>}.
+ * Latencies are in nanoseconds.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public interface DaoMetricsMXBean {
+
+	long getRegistered();
+
+	long getDuplicates();
+
+	long getSearchHits();
+
+	long getSearchMisses();
+
+	long getUpdates();
+
+	long getDeletes();
+
+	long getRegisterP50();
+
+	long getRegisterP99();
+
+	long getRegisterP999();
+
+	long getSearchP50();
+
+	long getSearchP99();
+
+	long getSearchP999();
+
+	long getUpdateP50();
+
+	long getUpdateP99();
+
+	long getUpdateP999();
+
+	long getDeleteP50();
+
+	long getDeleteP99();
+
+	long getDeleteP999();
+
+	/** Clears every counter and histogram. */
+	void reset();
+}
@@ -0,0 +1,93 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable copy of the {@link DaoMetrics} of one entity class.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class DaoMetricsSnapshot {
+
+	private final String entityName;
+	private final long registered;
+	private final long duplicates;
+	private final long searchHits;
+	private final long searchMisses;
+	private final long updates;
+	private final long deletes;
+	private final Map<DaoOperation, LatencySnapshot> latencies;
+
+	DaoMetricsSnapshot(String entityName, long registered, long duplicates, long searchHits, long searchMisses,
+			long updates, long deletes, Map<DaoOperation, LatencySnapshot> latencies) {
+		this.entityName = entityName;
+		this.registered = registered;
+		this.duplicates = duplicates;
+		this.searchHits = searchHits;
+		this.searchMisses = searchMisses;
+		this.updates = updates;
+		this.deletes = deletes;
+		this.latencies = Collections.unmodifiableMap(latencies);
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	/** @return The entities registered, not counting duplicates. */
+	public long getRegistered() {
+		return registered;
+	}
+
+	/** @return The registrations refused because the key already existed. */
+	public long getDuplicates() {
+		return duplicates;
+	}
+
+	public long getSearchHits() {
+		return searchHits;
+	}
+
+	public long getSearchMisses() {
+		return searchMisses;
+	}
+
+	/** @return The entities passed to update operations. */
+	public long getUpdates() {
+		return updates;
+	}
+
+	/** @return The identifiers passed to delete operations. */
+	public long getDeletes() {
+		return deletes;
+	}
+
+	/**
+	 * @param operation An operation.
+	 * @return Its latency distribution.
+	 */
+	public LatencySnapshot getLatency(DaoOperation operation) {
+		return latencies.get(operation);
+	}
+
+	/** @return The latency distribution of every operation. */
+	public Map<DaoOperation, LatencySnapshot> getLatencies() {
+		return latencies;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder("Métricas de ").append(entityName).append(": registered=")
+				.append(registered).append(", duplicates=").append(duplicates).append(", searchHits=")
+				.append(searchHits).append(", searchMisses=").append(searchMisses).append(", updates=")
+				.append(updates).append(", deletes=").append(deletes);
+		for (Map.Entry<DaoOperation, LatencySnapshot> eachEntry : latencies.entrySet()) {
+			if (eachEntry.getValue().getCount() > 0) {
+				text.append('\n').append(eachEntry.getKey()).append(": ").append(eachEntry.getValue());
+			}
+		}
+		return text.toString();
+	}
+}
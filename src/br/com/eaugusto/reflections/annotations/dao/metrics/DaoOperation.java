@@ -0,0 +1,13 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+/**
+ * Operations of {@link br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO}
+ * timed by {@link InstrumentedDAO}. Batch operations are timed per call, not
+ * per entity.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public enum DaoOperation {
+	REGISTER, SEARCH, UPDATE, DELETE, SEARCH_ALL, FIND_BY, REGISTER_ALL, SEARCH_MANY, UPDATE_ALL, DELETE_ALL
+}
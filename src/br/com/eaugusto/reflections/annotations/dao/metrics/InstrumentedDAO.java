@@ -0,0 +1,151 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Decorator that times every call to another {@link IGenericDAO} and counts
+ * its outcomes in the {@link DaoMetrics} of the entity class.
+ *
+ * <p>
+ * Each call costs two {@link System#nanoTime()} reads and a few lock-free
+ * additions on top of the wrapped DAO, so it can stay enabled in production.
+ * The decorator is as thread-safe as the DAO it wraps. Single updates and
+ * deletions are counted per call, because the wrapped DAO does not report
+ * whether the entity existed; the batch methods count what their results
+ * report.
+ * </p>
+ *
+ * @param <T> The type of persistable entity managed by the wrapped DAO.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class InstrumentedDAO<T extends Persistable> implements IGenericDAO<T> {
+
+	private final IGenericDAO<T> delegate;
+	private final DaoMetrics metrics;
+
+	/**
+	 * Wraps a DAO.
+	 *
+	 * @param delegate    The DAO to instrument.
+	 * @param entityClass The entity class, whose metrics are recorded.
+	 */
+	public InstrumentedDAO(IGenericDAO<T> delegate, Class<T> entityClass) {
+		this.delegate = delegate;
+		this.metrics = DaoMetrics.forClass(entityClass);
+	}
+
+	/** @return The metrics this decorator records into. */
+	public DaoMetrics getMetrics() {
+		return metrics;
+	}
+
+	/** @return The wrapped DAO. */
+	public IGenericDAO<T> getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Boolean register(T entity) {
+		long start = System.nanoTime();
+		Boolean isRegistered = delegate.register(entity);
+		metrics.record(DaoOperation.REGISTER, System.nanoTime() - start);
+		if (Boolean.TRUE.equals(isRegistered)) {
+			metrics.countRegistered(1);
+		} else {
+			metrics.countDuplicates(1);
+		}
+		return isRegistered;
+	}
+
+	@Override
+	public void delete(String value) {
+		long start = System.nanoTime();
+		delegate.delete(value);
+		metrics.record(DaoOperation.DELETE, System.nanoTime() - start);
+		metrics.countDeletes(1);
+	}
+
+	@Override
+	public void updateEntity(T entity) {
+		long start = System.nanoTime();
+		delegate.updateEntity(entity);
+		metrics.record(DaoOperation.UPDATE, System.nanoTime() - start);
+		metrics.countUpdates(1);
+	}
+
+	@Override
+	public T search(String value) {
+		long start = System.nanoTime();
+		T found = delegate.search(value);
+		metrics.record(DaoOperation.SEARCH, System.nanoTime() - start);
+		metrics.countSearches(found != null ? 1 : 0, found != null ? 0 : 1);
+		return found;
+	}
+
+	@Override
+	public Collection<T> searchAll() {
+		long start = System.nanoTime();
+		Collection<T> all = delegate.searchAll();
+		metrics.record(DaoOperation.SEARCH_ALL, System.nanoTime() - start);
+		return all;
+	}
+
+	@Override
+	public Collection<T> findBy(String fieldName, Object value) {
+		long start = System.nanoTime();
+		Collection<T> matches = delegate.findBy(fieldName, value);
+		metrics.record(DaoOperation.FIND_BY, System.nanoTime() - start);
+		return matches;
+	}
+
+	@Override
+	public BitSet registerAll(Collection<? extends T> entities) {
+		long start = System.nanoTime();
+		BitSet duplicates = delegate.registerAll(entities);
+		metrics.record(DaoOperation.REGISTER_ALL, System.nanoTime() - start);
+		int duplicateCount = duplicates.cardinality();
+		metrics.countRegistered(entities.size() - duplicateCount);
+		metrics.countDuplicates(duplicateCount);
+		return duplicates;
+	}
+
+	@Override
+	public List<T> searchMany(Collection<String> values) {
+		long start = System.nanoTime();
+		List<T> results = delegate.searchMany(values);
+		metrics.record(DaoOperation.SEARCH_MANY, System.nanoTime() - start);
+		int hits = 0;
+		for (T eachResult : results) {
+			if (eachResult != null) {
+				hits++;
+			}
+		}
+		metrics.countSearches(hits, results.size() - hits);
+		return results;
+	}
+
+	@Override
+	public BitSet updateAll(Collection<? extends T> entities) {
+		long start = System.nanoTime();
+		BitSet updated = delegate.updateAll(entities);
+		metrics.record(DaoOperation.UPDATE_ALL, System.nanoTime() - start);
+		metrics.countUpdates(updated.cardinality());
+		return updated;
+	}
+
+	@Override
+	public BitSet deleteAll(Collection<String> values) {
+		long start = System.nanoTime();
+		BitSet deleted = delegate.deleteAll(values);
+		metrics.record(DaoOperation.DELETE_ALL, System.nanoTime() - start);
+		metrics.countDeletes(deleted.cardinality());
+		return deleted;
+	}
+}
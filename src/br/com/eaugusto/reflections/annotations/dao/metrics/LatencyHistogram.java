@@ -0,0 +1,110 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, log-linear histogram of latencies in nanoseconds.
+ *
+ * <p>
+ * Values below {@value #SUB_BUCKETS} nanoseconds get one bucket each; above
+ * that, every power of two is split into {@value #SUB_BUCKETS} equal buckets,
+ * so any recorded value is reported within about 6% of its real value, from
+ * one nanosecond to hours, with a fixed array of counters. Recording is one
+ * leading-zero count, one shift and two atomic additions, with no lock and no
+ * allocation.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records one latency.
+	 *
+	 * @param nanos The latency in nanoseconds; negative values count as 0.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.getAndIncrement(bucketOf(value));
+		total.increment();
+		sum.add(value);
+		if (value > max.get()) {
+			max.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	/**
+	 * Copies the current counts into an immutable snapshot. Values recorded while
+	 * the copy runs may or may not be included.
+	 *
+	 * @return The snapshot.
+	 */
+	public LatencySnapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+			count += copy[i];
+		}
+		long maxValue = max.get();
+		return new LatencySnapshot(count, count == 0 ? 0 : (double) sum.sum() / total.sum(),
+				percentile(copy, count, 0.50, maxValue), percentile(copy, count, 0.99, maxValue),
+				percentile(copy, count, 0.999, maxValue), maxValue);
+	}
+
+	/** Clears every recorded value. */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		total.reset();
+		sum.reset();
+		max.set(0);
+	}
+
+	private static long percentile(long[] copy, long count, double quantile, long maxValue) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * count));
+		long seen = 0;
+		for (int i = 0; i < copy.length; i++) {
+			seen += copy[i];
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/** Highest value that falls in the bucket. */
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+}
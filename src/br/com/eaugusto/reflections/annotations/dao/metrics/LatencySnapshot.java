@@ -0,0 +1,58 @@
+package br.com.eaugusto.reflections.annotations.dao.metrics;
+
+/**
+ * Immutable summary of a {@link LatencyHistogram} at one point in time. All
+ * latencies are in nanoseconds; percentiles are the upper bound of the
+ * histogram bucket holding them.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class LatencySnapshot {
+
+	private final long count;
+	private final double mean;
+	private final long p50;
+	private final long p99;
+	private final long p999;
+	private final long max;
+
+	LatencySnapshot(long count, double mean, long p50, long p99, long p999, long max) {
+		this.count = count;
+		this.mean = mean;
+		this.p50 = p50;
+		this.p99 = p99;
+		this.p999 = p999;
+		this.max = max;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMean() {
+		return mean;
+	}
+
+	public long getP50() {
+		return p50;
+	}
+
+	public long getP99() {
+		return p99;
+	}
+
+	public long getP999() {
+		return p999;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + count + ", mean=" + Math.round(mean) + "ns, p50=" + p50 + "ns, p99=" + p99 + "ns, p99.9="
+				+ p999 + "ns, max=" + max + "ns";
+	}
+}
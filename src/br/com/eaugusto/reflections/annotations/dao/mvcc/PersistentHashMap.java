@@ -0,0 +1,544 @@
+package br.com.eaugusto.reflections.annotations.dao.mvcc;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hash map whose contents are a persistent hash array mapped trie, so that a
+ * point-in-time copy of it costs O(1).
+ *
+ * <p>
+ * Every version of the map is an immutable tree of 32-way nodes indexed by five
+ * bits of the key's hash at a time. {@link #put} and {@link #remove} copy only
+ * the path from the root to the changed entry, about
+ * {@code log32(size)} small arrays, share the rest with the previous version
+ * and then publish the new root with a compare-and-set. {@link #snapshot()}
+ * just returns the root current at the time of the call, which stays valid and
+ * unchanged however the map is modified afterwards.
+ * </p>
+ *
+ * <p>
+ * Lookups and iteration never lock and never throw
+ * {@link java.util.ConcurrentModificationException}: iterating the map, or any
+ * of its views, walks the version that was current when the iterator was
+ * created. Writers never wait for readers; concurrent writers retry their
+ * path copy when another one published first. {@link #put},
+ * {@link #putIfAbsent} and {@link #remove} are atomic, but the other default
+ * compound operations of {@link Map}, such as {@code compute}, are not.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+
+	/** Seven levels of nodes consume the 32 hash bits, plus one of collisions. */
+	private static final int MAX_DEPTH = 8;
+
+	private static final Node EMPTY_NODE = new Node(0, new Object[0]);
+
+	/** One immutable version of the map. */
+	private static final class Version {
+
+		final Node root;
+		final int size;
+
+		Version(Node root, int size) {
+			this.root = root;
+			this.size = size;
+		}
+	}
+
+	/** Inner node: one slot per set bit of the bitmap, holding a leaf, a node or a collision. */
+	private static final class Node {
+
+		final int bitmap;
+		final Object[] slots;
+
+		Node(int bitmap, Object[] slots) {
+			this.bitmap = bitmap;
+			this.slots = slots;
+		}
+
+		Node inserted(int bit, int index, Object slot) {
+			Object[] copy = new Object[slots.length + 1];
+			System.arraycopy(slots, 0, copy, 0, index);
+			copy[index] = slot;
+			System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+			return new Node(bitmap | bit, copy);
+		}
+
+		Node replaced(int index, Object slot) {
+			Object[] copy = slots.clone();
+			copy[index] = slot;
+			return new Node(bitmap, copy);
+		}
+
+		Node removed(int bit, int index) {
+			Object[] copy = new Object[slots.length - 1];
+			System.arraycopy(slots, 0, copy, 0, index);
+			System.arraycopy(slots, index + 1, copy, index, copy.length - index);
+			return new Node(bitmap & ~bit, copy);
+		}
+	}
+
+	/** Entries whose keys have the same full hash. */
+	private static final class Collision {
+
+		final int hash;
+		final Object[] leaves;
+
+		Collision(int hash, Object[] leaves) {
+			this.hash = hash;
+			this.leaves = leaves;
+		}
+	}
+
+	/** Immutable entry. */
+	private static final class Leaf<K, V> implements Map.Entry<K, V> {
+
+		final int hash;
+		final K key;
+		final V value;
+
+		Leaf(int hash, K key, V value) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V newValue) {
+			throw new UnsupportedOperationException("Entradas de um mapa persistente são imutáveis");
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+			return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(value);
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	/** What a put or remove found under the key, filled while copying the path. */
+	private static final class Change {
+
+		boolean found;
+		Object previous;
+	}
+
+	private final AtomicReference<Version> current = new AtomicReference<>(new Version(EMPTY_NODE, 0));
+
+	/** Creates an empty map. */
+	public PersistentHashMap() {
+	}
+
+	/**
+	 * Returns a read-only copy of the map as it is now, in O(1).
+	 *
+	 * <p>
+	 * Later changes to this map are not visible through the returned one, which
+	 * can be read from any thread.
+	 * </p>
+	 *
+	 * @return The point-in-time copy.
+	 */
+	public Map<K, V> snapshot() {
+		return new Snapshot<>(current.get());
+	}
+
+	@Override
+	public int size() {
+		return current.get().size;
+	}
+
+	@Override
+	public V get(Object key) {
+		Leaf<K, V> leaf = find(current.get().root, hash(key), key);
+		return leaf == null ? null : leaf.value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(current.get().root, hash(key), key) != null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put(key, value, false);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put(key, value, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V remove(Object key) {
+		int hash = hash(key);
+		while (true) {
+			Version version = current.get();
+			Change change = new Change();
+			Node root = (Node) remove(version.root, 0, hash, key, change, true);
+			if (!change.found) {
+				return null;
+			}
+			if (current.compareAndSet(version, new Version(root, version.size - 1))) {
+				return (V) change.previous;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		current.set(new Version(EMPTY_NODE, 0));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The iterator walks the version current when it was created; the set is
+	 * read-only.
+	 * </p>
+	 */
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Map.Entry<K, V>> iterator() {
+				return new LeafIterator<>(current.get().root);
+			}
+
+			@Override
+			public int size() {
+				return current.get().size;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Leaf<K, V> leaf = new Leaf<>(hash(key), key, value);
+		while (true) {
+			Version version = current.get();
+			if (onlyIfAbsent) {
+				Leaf<K, V> existing = find(version.root, leaf.hash, key);
+				if (existing != null) {
+					return existing.value;
+				}
+			}
+			Change change = new Change();
+			Node root = put(version.root, 0, leaf, change);
+			if (root == version.root) {
+				return (V) change.previous;
+			}
+			if (current.compareAndSet(version, new Version(root, change.found ? version.size : version.size + 1))) {
+				return (V) change.previous;
+			}
+		}
+	}
+
+	private static int hash(Object key) {
+		int hash = Objects.hashCode(key);
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int bit(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	private static int index(int bitmap, int bit) {
+		return Integer.bitCount(bitmap & (bit - 1));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Leaf<K, V> find(Node root, int hash, Object key) {
+		Node node = root;
+		int shift = 0;
+		while (true) {
+			int bit = bit(hash, shift);
+			if ((node.bitmap & bit) == 0) {
+				return null;
+			}
+			Object slot = node.slots[index(node.bitmap, bit)];
+			if (slot instanceof Node) {
+				node = (Node) slot;
+				shift += BITS;
+			} else if (slot instanceof Leaf) {
+				Leaf<?, ?> leaf = (Leaf<?, ?>) slot;
+				return leaf.hash == hash && Objects.equals(leaf.key, key) ? (Leaf<K, V>) leaf : null;
+			} else {
+				Collision collision = (Collision) slot;
+				if (collision.hash != hash) {
+					return null;
+				}
+				for (Object eachLeaf : collision.leaves) {
+					if (Objects.equals(((Leaf<?, ?>) eachLeaf).key, key)) {
+						return (Leaf<K, V>) eachLeaf;
+					}
+				}
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the node with the leaf stored under its key, or the same node if
+	 * the key already held that exact value.
+	 */
+	private static Node put(Node node, int shift, Leaf<?, ?> leaf, Change change) {
+		int bit = bit(leaf.hash, shift);
+		int index = index(node.bitmap, bit);
+		if ((node.bitmap & bit) == 0) {
+			return node.inserted(bit, index, leaf);
+		}
+
+		Object slot = node.slots[index];
+		Object replacement;
+		if (slot instanceof Node) {
+			replacement = put((Node) slot, shift + BITS, leaf, change);
+		} else if (slot instanceof Leaf) {
+			Leaf<?, ?> existing = (Leaf<?, ?>) slot;
+			if (existing.hash == leaf.hash && Objects.equals(existing.key, leaf.key)) {
+				change.found = true;
+				change.previous = existing.value;
+				replacement = existing.value == leaf.value ? existing : leaf;
+			} else {
+				replacement = merge(existing, existing.hash, leaf, shift + BITS);
+			}
+		} else {
+			Collision collision = (Collision) slot;
+			replacement = collision.hash == leaf.hash ? putInCollision(collision, leaf, change)
+					: merge(collision, collision.hash, leaf, shift + BITS);
+		}
+		return replacement == slot ? node : node.replaced(index, replacement);
+	}
+
+	private static Object putInCollision(Collision collision, Leaf<?, ?> leaf, Change change) {
+		Object[] leaves = collision.leaves;
+		for (int i = 0; i < leaves.length; i++) {
+			Leaf<?, ?> existing = (Leaf<?, ?>) leaves[i];
+			if (Objects.equals(existing.key, leaf.key)) {
+				change.found = true;
+				change.previous = existing.value;
+				if (existing.value == leaf.value) {
+					return collision;
+				}
+				Object[] copy = leaves.clone();
+				copy[i] = leaf;
+				return new Collision(collision.hash, copy);
+			}
+		}
+		Object[] copy = new Object[leaves.length + 1];
+		System.arraycopy(leaves, 0, copy, 0, leaves.length);
+		copy[leaves.length] = leaf;
+		return new Collision(collision.hash, copy);
+	}
+
+	/**
+	 * Builds the subtree holding an existing leaf or collision and a new leaf with
+	 * a different key, splitting on further hash bits until they part.
+	 */
+	private static Object merge(Object existing, int existingHash, Leaf<?, ?> leaf, int shift) {
+		if (existingHash == leaf.hash) {
+			return new Collision(leaf.hash, new Object[] { existing, leaf });
+		}
+		int existingIndex = (existingHash >>> shift) & MASK;
+		int leafIndex = (leaf.hash >>> shift) & MASK;
+		if (existingIndex == leafIndex) {
+			return new Node(1 << leafIndex, new Object[] { merge(existing, existingHash, leaf, shift + BITS) });
+		}
+		Object[] slots = existingIndex < leafIndex ? new Object[] { existing, leaf } : new Object[] { leaf, existing };
+		return new Node((1 << existingIndex) | (1 << leafIndex), slots);
+	}
+
+	/**
+	 * Returns what replaces the node once the key is removed: the same node if
+	 * the key is absent, a lone leaf or collision to be pulled up into the parent,
+	 * or a smaller node.
+	 */
+	private static Object remove(Node node, int shift, int hash, Object key, Change change, boolean isRoot) {
+		int bit = bit(hash, shift);
+		if ((node.bitmap & bit) == 0) {
+			return node;
+		}
+		int index = index(node.bitmap, bit);
+		Object slot = node.slots[index];
+		Object replacement;
+		if (slot instanceof Node) {
+			replacement = remove((Node) slot, shift + BITS, hash, key, change, false);
+		} else if (slot instanceof Leaf) {
+			Leaf<?, ?> leaf = (Leaf<?, ?>) slot;
+			if (leaf.hash != hash || !Objects.equals(leaf.key, key)) {
+				return node;
+			}
+			change.found = true;
+			change.previous = leaf.value;
+			replacement = null;
+		} else {
+			replacement = removeFromCollision((Collision) slot, hash, key, change);
+		}
+
+		if (replacement == slot) {
+			return node;
+		}
+		Node updated = replacement == null ? node.removed(bit, index) : node.replaced(index, replacement);
+		if (!isRoot && updated.slots.length == 1 && !(updated.slots[0] instanceof Node)) {
+			return updated.slots[0];
+		}
+		if (!isRoot && updated.slots.length == 0) {
+			return null;
+		}
+		return updated;
+	}
+
+	private static Object removeFromCollision(Collision collision, int hash, Object key, Change change) {
+		if (collision.hash != hash) {
+			return collision;
+		}
+		Object[] leaves = collision.leaves;
+		for (int i = 0; i < leaves.length; i++) {
+			Leaf<?, ?> existing = (Leaf<?, ?>) leaves[i];
+			if (Objects.equals(existing.key, key)) {
+				change.found = true;
+				change.previous = existing.value;
+				if (leaves.length == 2) {
+					return leaves[1 - i];
+				}
+				Object[] copy = new Object[leaves.length - 1];
+				System.arraycopy(leaves, 0, copy, 0, i);
+				System.arraycopy(leaves, i + 1, copy, i, copy.length - i);
+				return new Collision(hash, copy);
+			}
+		}
+		return collision;
+	}
+
+	/** Depth-first walk over the leaves of one version. */
+	private static final class LeafIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+		private final Object[][] stack = new Object[MAX_DEPTH][];
+		private final int[] positions = new int[MAX_DEPTH];
+		private int depth;
+		private Leaf<K, V> next;
+
+		LeafIterator(Node root) {
+			stack[0] = root.slots;
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			Leaf<K, V> leaf = next;
+			if (leaf == null) {
+				throw new NoSuchElementException();
+			}
+			advance();
+			return leaf;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void advance() {
+			while (depth >= 0) {
+				Object[] slots = stack[depth];
+				if (positions[depth] == slots.length) {
+					stack[depth--] = null;
+					continue;
+				}
+				Object slot = slots[positions[depth]++];
+				if (slot instanceof Leaf) {
+					next = (Leaf<K, V>) slot;
+					return;
+				}
+				depth++;
+				stack[depth] = slot instanceof Node ? ((Node) slot).slots : ((Collision) slot).leaves;
+				positions[depth] = 0;
+			}
+			next = null;
+		}
+	}
+
+	/** Read-only map over one fixed version. */
+	private static final class Snapshot<K, V> extends AbstractMap<K, V> {
+
+		private final Version version;
+
+		Snapshot(Version version) {
+			this.version = version;
+		}
+
+		@Override
+		public int size() {
+			return version.size;
+		}
+
+		@Override
+		public V get(Object key) {
+			Leaf<K, V> leaf = find(version.root, hash(key), key);
+			return leaf == null ? null : leaf.value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return find(version.root, hash(key), key) != null;
+		}
+
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new LeafIterator<>(version.root);
+				}
+
+				@Override
+				public int size() {
+					return version.size;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package br.com.eaugusto.reflections.annotations.dao.mvcc;
+
+/**
+ * Immutable pairing of an entity with the version stamp under which it was
+ * stored.
+ *
+ * <p>
+ * A version is replaced as a whole, never modified, so whoever holds one sees
+ * an entity whose fields all belong to the same write.
+ * </p>
+ *
+ * @param <T> The type of the entity.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class Versioned<T> {
+
+	private final T entity;
+	private final long version;
+
+	/**
+	 * Creates a version.
+	 *
+	 * @param entity  The entity, or null for a deletion.
+	 * @param version The version stamp.
+	 */
+	public Versioned(T entity, long version) {
+		this.entity = entity;
+		this.version = version;
+	}
+
+	/** @return The entity, or null if this version records a deletion. */
+	public T getEntity() {
+		return entity;
+	}
+
+	/** @return The version stamp. */
+	public long getVersion() {
+		return version;
+	}
+
+	/** @return true if this version records a deletion. */
+	public boolean isDeleted() {
+		return entity == null;
+	}
+
+	@Override
+	public String toString() {
+		return "v" + version + "=" + entity;
+	}
+}
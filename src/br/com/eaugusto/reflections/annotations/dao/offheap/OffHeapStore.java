@@ -0,0 +1,414 @@
+package br.com.eaugusto.reflections.annotations.dao.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Off-heap key/value store for encoded entities.
+ *
+ * <p>
+ * Records live in direct {@link ByteBuffer} slabs, outside the Java heap, and
+ * are addressed by a {@code long} made of the slab number (high 32 bits) and
+ * the offset inside the slab (low 32 bits). Each record is laid out as
+ * {@code [int capacity][int keyLength][int entityLength][key UTF-8][entity]}.
+ * Lookups go through an open-addressing hash index that is itself off-heap: 16-byte
+ * slots {@code [long address][int keyHash][int unused]} with linear probing and
+ * backward-shift deletion, kept in direct buffers of at most
+ * {@value #SLOTS_PER_PAGE} slots so the table can outgrow the 2 GiB limit of a
+ * single buffer.
+ * </p>
+ *
+ * <p>
+ * Freed records are reused: capacities are rounded up to
+ * {@value #ALIGNMENT}-byte size classes, and each class keeps a stack of free
+ * addresses. Rewriting a record in place is possible whenever the new bytes fit
+ * its capacity. Null keys are never stored: lookups and removals of a null key
+ * find nothing. This class is not thread-safe.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class OffHeapStore {
+
+	/** Default size of each direct memory slab. */
+	public static final int DEFAULT_SLAB_SIZE = 64 * 1024 * 1024;
+
+	private static final int ALIGNMENT = 16;
+	private static final int RECORD_HEADER_BYTES = Integer.BYTES * 3;
+	private static final int SIZE_CLASSES = 256;
+	private static final int SLOT_BYTES = 16;
+	private static final int PAGE_SHIFT = 20;
+	private static final int SLOTS_PER_PAGE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = SLOTS_PER_PAGE - 1;
+	private static final int MAX_SLOTS = 1 << 30;
+	private static final double MAX_LOAD = 0.7;
+
+	private final int slabSize;
+	private final List<ByteBuffer> slabs = new ArrayList<>();
+	private int slabPosition;
+
+	private final long[][] freeAddresses = new long[SIZE_CLASSES][];
+	private final int[] freeCounts = new int[SIZE_CLASSES];
+
+	private ByteBuffer[] slotPages;
+	private int slotMask;
+	private int size;
+	private long liveBytes;
+	private long reservedBytes;
+
+	/** Creates a store with the default slab size. */
+	public OffHeapStore() {
+		this(DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * Creates a store.
+	 *
+	 * @param slabSize Size in bytes of each direct memory slab; also the largest
+	 *                 record the store accepts.
+	 */
+	public OffHeapStore(int slabSize) {
+		this.slabSize = slabSize;
+		this.slotPages = allocateSlots(1024);
+		this.slotMask = 1024 - 1;
+	}
+
+	/** @return The number of records stored. */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return The off-heap bytes reserved by slabs and the index, including free
+	 *         space.
+	 */
+	public long reservedBytes() {
+		return reservedBytes + (long) (slotMask + 1) * SLOT_BYTES;
+	}
+
+	/** @return The bytes occupied by live records. */
+	public long liveBytes() {
+		return liveBytes;
+	}
+
+	/**
+	 * Looks up the encoded entity stored under a key.
+	 *
+	 * @param key The unique identifier.
+	 * @return A buffer positioned at the entity bytes and limited to them, or null
+	 *         if the key is not stored. Valid only until the next mutation.
+	 */
+	public ByteBuffer get(String key) {
+		if (key == null) {
+			return null;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		long address = slotAddress(findSlot(keyBytes, hash(keyBytes)));
+		return address == 0 ? null : entityBytes(address);
+	}
+
+	/**
+	 * Checks whether a key is stored.
+	 *
+	 * @param key The unique identifier.
+	 * @return true if a record exists for the key.
+	 */
+	public boolean contains(String key) {
+		if (key == null) {
+			return false;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		return slotAddress(findSlot(keyBytes, hash(keyBytes))) != 0;
+	}
+
+	/**
+	 * Stores a new record.
+	 *
+	 * @param key    The unique identifier.
+	 * @param entity The encoded entity, from its position to its limit.
+	 * @return true if stored; false if the key already existed.
+	 * @throws IllegalArgumentException if the key is null.
+	 * @throws IllegalStateException    if the index already holds the most
+	 *                                  records it can address.
+	 */
+	public boolean insert(String key, ByteBuffer entity) {
+		if (key == null) {
+			throw new IllegalArgumentException("A chave do registro não pode ser nula");
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(keyBytes);
+		int slot = findSlot(keyBytes, keyHash);
+		if (slotAddress(slot) != 0) {
+			return false;
+		}
+		if (size + 1 > (slotMask + 1) * MAX_LOAD && slotMask + 1 == MAX_SLOTS) {
+			throw new IllegalStateException("O índice off-heap já contém o máximo de " + size + " registros");
+		}
+
+		setSlot(slot, write(keyBytes, entity), keyHash);
+		size++;
+		if (size > (slotMask + 1) * MAX_LOAD) {
+			resizeIndex();
+		}
+		return true;
+	}
+
+	/**
+	 * Rewrites the record of an existing key, in place when the new bytes fit its
+	 * capacity and in a new slot otherwise.
+	 *
+	 * @param key    The unique identifier.
+	 * @param entity The new encoded entity, from its position to its limit.
+	 * @return true if replaced; false if the key is not stored.
+	 */
+	public boolean replace(String key, ByteBuffer entity) {
+		if (key == null) {
+			return false;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(keyBytes);
+		int slot = findSlot(keyBytes, keyHash);
+		long address = slotAddress(slot);
+		if (address == 0) {
+			return false;
+		}
+
+		ByteBuffer slab = slab(address);
+		int offset = offset(address);
+		int capacity = slab.getInt(offset);
+		int entityLength = entity.remaining();
+		if (RECORD_HEADER_BYTES + keyBytes.length + entityLength <= capacity) {
+			liveBytes += entityLength - slab.getInt(offset + Integer.BYTES * 2);
+			slab.putInt(offset + Integer.BYTES * 2, entityLength);
+			slab.put(offset + RECORD_HEADER_BYTES + keyBytes.length, entity, entity.position(), entityLength);
+		} else {
+			free(address);
+			setSlot(slot, write(keyBytes, entity), keyHash);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the record of a key and makes its slot reusable.
+	 *
+	 * @param key The unique identifier.
+	 * @return true if a record was removed.
+	 */
+	public boolean remove(String key) {
+		if (key == null) {
+			return false;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int slot = findSlot(keyBytes, hash(keyBytes));
+		long address = slotAddress(slot);
+		if (address == 0) {
+			return false;
+		}
+
+		free(address);
+		deleteSlot(slot);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Visits the encoded entity of every record, in index order.
+	 *
+	 * @param consumer Receives a buffer positioned at each entity's bytes.
+	 */
+	public void forEach(Consumer<ByteBuffer> consumer) {
+		for (int slot = 0; slot <= slotMask; slot++) {
+			long address = slotAddress(slot);
+			if (address != 0) {
+				consumer.accept(entityBytes(address));
+			}
+		}
+	}
+
+	private ByteBuffer entityBytes(long address) {
+		ByteBuffer slab = slab(address);
+		int offset = offset(address);
+		int keyLength = slab.getInt(offset + Integer.BYTES);
+		int entityLength = slab.getInt(offset + Integer.BYTES * 2);
+		int start = offset + RECORD_HEADER_BYTES + keyLength;
+		return slab.duplicate().limit(start + entityLength).position(start);
+	}
+
+	/**
+	 * Finds the slot holding the key, or the empty slot where it would be
+	 * inserted.
+	 */
+	private int findSlot(byte[] keyBytes, int keyHash) {
+		int slot = keyHash & slotMask;
+		while (true) {
+			long address = slotAddress(slot);
+			if (address == 0 || slotHash(slot) == keyHash && keyEquals(address, keyBytes)) {
+				return slot;
+			}
+			slot = (slot + 1) & slotMask;
+		}
+	}
+
+	/**
+	 * Empties a slot and shifts back the entries of its probe chain so lookups
+	 * never stop early at the hole.
+	 */
+	private void deleteSlot(int slot) {
+		int hole = slot;
+		int next = (hole + 1) & slotMask;
+		while (slotAddress(next) != 0) {
+			int home = slotHash(next) & slotMask;
+			boolean canMove = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+			if (canMove) {
+				setSlot(hole, slotAddress(next), slotHash(next));
+				hole = next;
+			}
+			next = (next + 1) & slotMask;
+		}
+		setSlot(hole, 0, 0);
+	}
+
+	private void resizeIndex() {
+		if (slotMask + 1 == MAX_SLOTS) {
+			return;
+		}
+		ByteBuffer[] oldPages = slotPages;
+		int oldCount = slotMask + 1;
+		int newCount = oldCount * 2;
+		slotPages = allocateSlots(newCount);
+		slotMask = newCount - 1;
+
+		for (int i = 0; i < oldCount; i++) {
+			ByteBuffer oldPage = oldPages[i >>> PAGE_SHIFT];
+			int position = (i & PAGE_MASK) * SLOT_BYTES;
+			long address = oldPage.getLong(position);
+			if (address != 0) {
+				int keyHash = oldPage.getInt(position + Long.BYTES);
+				int slot = keyHash & slotMask;
+				while (slotAddress(slot) != 0) {
+					slot = (slot + 1) & slotMask;
+				}
+				setSlot(slot, address, keyHash);
+			}
+		}
+	}
+
+	private static ByteBuffer[] allocateSlots(int count) {
+		int pageSlots = Math.min(count, SLOTS_PER_PAGE);
+		ByteBuffer[] pages = new ByteBuffer[count / pageSlots];
+		for (int i = 0; i < pages.length; i++) {
+			pages[i] = ByteBuffer.allocateDirect(pageSlots * SLOT_BYTES);
+		}
+		return pages;
+	}
+
+	private long slotAddress(int slot) {
+		return slotPages[slot >>> PAGE_SHIFT].getLong((slot & PAGE_MASK) * SLOT_BYTES);
+	}
+
+	private int slotHash(int slot) {
+		return slotPages[slot >>> PAGE_SHIFT].getInt((slot & PAGE_MASK) * SLOT_BYTES + Long.BYTES);
+	}
+
+	private void setSlot(int slot, long address, int keyHash) {
+		ByteBuffer page = slotPages[slot >>> PAGE_SHIFT];
+		int position = (slot & PAGE_MASK) * SLOT_BYTES;
+		page.putLong(position, address);
+		page.putInt(position + Long.BYTES, keyHash);
+	}
+
+	private boolean keyEquals(long address, byte[] keyBytes) {
+		ByteBuffer slab = slab(address);
+		int offset = offset(address);
+		if (slab.getInt(offset + Integer.BYTES) != keyBytes.length) {
+			return false;
+		}
+		int start = offset + RECORD_HEADER_BYTES;
+		for (int i = 0; i < keyBytes.length; i++) {
+			if (slab.get(start + i) != keyBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long write(byte[] keyBytes, ByteBuffer entity) {
+		int entityLength = entity.remaining();
+		int capacity = align(RECORD_HEADER_BYTES + keyBytes.length + entityLength);
+		long address = allocate(capacity);
+
+		ByteBuffer slab = slab(address);
+		int offset = offset(address);
+		slab.putInt(offset, capacity);
+		slab.putInt(offset + Integer.BYTES, keyBytes.length);
+		slab.putInt(offset + Integer.BYTES * 2, entityLength);
+		slab.put(offset + RECORD_HEADER_BYTES, keyBytes);
+		slab.put(offset + RECORD_HEADER_BYTES + keyBytes.length, entity, entity.position(), entityLength);
+		liveBytes += entityLength;
+		return address;
+	}
+
+	private long allocate(int capacity) {
+		if (capacity > slabSize) {
+			throw new IllegalArgumentException("Registro de " + capacity + " bytes excede o tamanho do bloco");
+		}
+
+		int sizeClass = capacity / ALIGNMENT;
+		if (sizeClass < SIZE_CLASSES && freeCounts[sizeClass] > 0) {
+			return freeAddresses[sizeClass][--freeCounts[sizeClass]];
+		}
+
+		if (slabs.isEmpty() || slabPosition + capacity > slabSize) {
+			slabs.add(ByteBuffer.allocateDirect(slabSize));
+			reservedBytes += slabSize;
+			slabPosition = 0;
+		}
+		long address = ((long) (slabs.size() - 1) << 32) | slabPosition;
+		slabPosition += capacity;
+		return address + 1;
+	}
+
+	private void free(long address) {
+		ByteBuffer slab = slab(address);
+		int offset = offset(address);
+		int capacity = slab.getInt(offset);
+		liveBytes -= slab.getInt(offset + Integer.BYTES * 2);
+
+		int sizeClass = capacity / ALIGNMENT;
+		if (sizeClass < SIZE_CLASSES) {
+			long[] stack = freeAddresses[sizeClass];
+			if (stack == null) {
+				stack = new long[16];
+			} else if (freeCounts[sizeClass] == stack.length) {
+				stack = Arrays.copyOf(stack, stack.length * 2);
+			}
+			freeAddresses[sizeClass] = stack;
+			stack[freeCounts[sizeClass]++] = address;
+		}
+	}
+
+	/**
+	 * Addresses are stored plus one, so that address 0 can mean an empty slot.
+	 */
+	private ByteBuffer slab(long address) {
+		return slabs.get((int) ((address - 1) >>> 32));
+	}
+
+	private static int offset(long address) {
+		return (int) (address - 1);
+	}
+
+	private static int align(int bytes) {
+		return (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+	}
+
+	private static int hash(byte[] keyBytes) {
+		int keyHash = Arrays.hashCode(keyBytes) * 0x9E3779B9;
+		return keyHash ^ (keyHash >>> 16);
+	}
+}
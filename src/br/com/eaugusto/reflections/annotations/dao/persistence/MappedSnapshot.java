@@ -0,0 +1,313 @@
+package br.com.eaugusto.reflections.annotations.dao.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import br.com.eaugusto.reflections.annotations.codec.EntityCodec;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Compact, memory-mapped snapshot of the entities of a DAO.
+ *
+ * <p>
+ * The file starts with a fixed header, holding among others the schema
+ * fingerprint of the {@link EntityCodec} used to write it, followed by an open-addressing hash
+ * index of 16-byte slots ({@code [long recordOffset][int keyHash][int unused]},
+ * offset 0 meaning empty) and then the records, each written as
+ * {@code [int keyLength][key UTF-8][int entityLength][entity bytes]}. The file
+ * is mapped in regions of {@value #REGION_SIZE} bytes, and no slot or record
+ * ever crosses a region boundary, so snapshots larger than 2 GB are supported.
+ * A record that would cross a boundary is moved to the next region, and the gap
+ * is marked with a key length of {@code -1} when it has room for one.
+ * </p>
+ *
+ * <p>
+ * Opening a snapshot only maps the file: {@link #get(String)} probes the index
+ * and decodes a single record, so a restarted process can serve lookups
+ * immediately without loading every entity first.
+ * </p>
+ *
+ * @param <T> The type of persistable entity stored.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class MappedSnapshot<T extends Persistable> {
+
+	/** Size of each mapped region of the file. */
+	public static final int REGION_SIZE = 1 << 30;
+
+	private static final long MAGIC = 0x44414F534E415031L;
+	private static final int VERSION = 2;
+	private static final int HEADER_BYTES = 64;
+	private static final int SLOT_BYTES = 16;
+	private static final int PADDING_MARKER = -1;
+
+	private final Path file;
+	private final EntityCodec<T> codec;
+	private final MappedByteBuffer[] regions;
+	private final long entryCount;
+	private final long slotMask;
+	private final long dataOffset;
+	private final long dataEnd;
+
+	private MappedSnapshot(Path file, EntityCodec<T> codec, MappedByteBuffer[] regions) {
+		this.file = file;
+		this.codec = codec;
+		this.regions = regions;
+
+		ByteBuffer header = regions[0];
+		if (regions[0].capacity() < HEADER_BYTES || header.getLong(0) != MAGIC) {
+			throw new IllegalStateException("Arquivo " + file + " não é um snapshot válido");
+		}
+		if (header.getInt(8) != VERSION) {
+			throw new IllegalStateException("Versão de snapshot não suportada em " + file + ": " + header.getInt(8));
+		}
+		this.entryCount = header.getLong(16);
+		this.slotMask = header.getLong(24) - 1;
+		this.dataOffset = header.getLong(32);
+		this.dataEnd = header.getLong(40);
+		codec.checkFingerprint(header.getLong(48), file);
+	}
+
+	/**
+	 * Writes a snapshot of the given entities.
+	 *
+	 * @param <T>      The type of persistable entity stored.
+	 * @param file     The snapshot file, replaced if it exists.
+	 * @param entities The entities to store, by unique identifier.
+	 * @param codec    The codec used to encode each entity.
+	 * @throws UncheckedIOException if the file cannot be written.
+	 */
+	public static <T extends Persistable> void write(Path file, Map<String, T> entities, EntityCodec<T> codec) {
+		long slotCount = Long.highestOneBit(Math.max(2L, entities.size() * 2L - 1)) << 1;
+		long indexBytes = slotCount * SLOT_BYTES;
+		long dataOffset = HEADER_BYTES + indexBytes;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long[] offsets = new long[entities.size()];
+			int[] hashes = new int[entities.size()];
+			long position = dataOffset;
+			ByteBuffer record = ByteBuffer.allocate(256);
+			int index = 0;
+
+			for (Map.Entry<String, T> eachEntry : entities.entrySet()) {
+				byte[] key = eachEntry.getKey().getBytes(StandardCharsets.UTF_8);
+				int entityBytes = codec.encodedSize(eachEntry.getValue());
+				int recordBytes = Integer.BYTES * 2 + key.length + entityBytes;
+				if (recordBytes > REGION_SIZE) {
+					throw new IllegalStateException("Registro maior que uma região do snapshot: " + eachEntry.getKey());
+				}
+				if (record.capacity() < recordBytes) {
+					record = ByteBuffer.allocate(Math.max(recordBytes, record.capacity() * 2));
+				}
+
+				long regionEnd = (position / REGION_SIZE + 1) * REGION_SIZE;
+				if (position + recordBytes > regionEnd) {
+					if (regionEnd - position >= Integer.BYTES) {
+						channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, PADDING_MARKER), position);
+					}
+					position = regionEnd;
+				}
+
+				record.clear();
+				record.putInt(key.length).put(key).putInt(entityBytes);
+				codec.encode(eachEntry.getValue(), record);
+				record.flip();
+				while (record.hasRemaining()) {
+					position += channel.write(record, position);
+				}
+
+				offsets[index] = position - recordBytes;
+				hashes[index] = hash(eachEntry.getKey());
+				index++;
+			}
+
+			MappedByteBuffer[] regions = map(channel, FileChannel.MapMode.READ_WRITE, position);
+			for (int i = 0; i < index; i++) {
+				long slot = hashes[i] & (slotCount - 1);
+				while (getLong(regions, slotPosition(slot)) != 0) {
+					slot = (slot + 1) & (slotCount - 1);
+				}
+				putLong(regions, slotPosition(slot), offsets[i]);
+				putInt(regions, slotPosition(slot) + Long.BYTES, hashes[i]);
+			}
+
+			putLong(regions, 0, MAGIC);
+			putInt(regions, 8, VERSION);
+			putLong(regions, 16, index);
+			putLong(regions, 24, slotCount);
+			putLong(regions, 32, dataOffset);
+			putLong(regions, 40, position);
+			putLong(regions, 48, codec.getFingerprint());
+			for (MappedByteBuffer eachRegion : regions) {
+				eachRegion.force();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Não foi possível gravar o snapshot " + file, e);
+		}
+	}
+
+	/**
+	 * Maps an existing snapshot file for reading.
+	 *
+	 * @param <T>   The type of persistable entity stored.
+	 * @param file  The snapshot file.
+	 * @param codec The codec used to decode each entity.
+	 * @return The mapped snapshot.
+	 * @throws UncheckedIOException  if the file cannot be mapped.
+	 * @throws IllegalStateException if the file is not a valid snapshot.
+	 */
+	public static <T extends Persistable> MappedSnapshot<T> open(Path file, EntityCodec<T> codec) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return new MappedSnapshot<>(file, codec, map(channel, FileChannel.MapMode.READ_ONLY, channel.size()));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Não foi possível abrir o snapshot " + file, e);
+		}
+	}
+
+	/** @return The number of entities in the snapshot. */
+	public long size() {
+		return entryCount;
+	}
+
+	/**
+	 * Looks up an entity by its unique identifier, decoding only its record.
+	 *
+	 * @param key The unique identifier.
+	 * @return A new decoded entity, or null if the snapshot does not contain it.
+	 */
+	public T get(String key) {
+		long recordOffset = find(key);
+		if (recordOffset == 0) {
+			return null;
+		}
+		ByteBuffer record = region(recordOffset);
+		int position = (int) (recordOffset % REGION_SIZE);
+		int keyLength = record.getInt(position);
+		return codec.decode(record.duplicate().position(position + Integer.BYTES * 2 + keyLength));
+	}
+
+	/**
+	 * Checks whether the snapshot contains the given identifier, without decoding
+	 * the entity.
+	 *
+	 * @param key The unique identifier.
+	 * @return true if a record exists for the key.
+	 */
+	public boolean contains(String key) {
+		return find(key) != 0;
+	}
+
+	/**
+	 * Decodes every record in file order.
+	 *
+	 * @param consumer Receives each identifier and its decoded entity.
+	 */
+	public void forEach(BiConsumer<String, T> consumer) {
+		long position = dataOffset;
+		while (position < dataEnd) {
+			ByteBuffer record = region(position);
+			int offset = (int) (position % REGION_SIZE);
+			if (REGION_SIZE - offset < Integer.BYTES || record.getInt(offset) == PADDING_MARKER) {
+				position = (position / REGION_SIZE + 1) * REGION_SIZE;
+				continue;
+			}
+
+			int keyLength = record.getInt(offset);
+			byte[] key = new byte[keyLength];
+			record.get(offset + Integer.BYTES, key);
+			int entityLength = record.getInt(offset + Integer.BYTES + keyLength);
+			T entity = codec.decode(record.duplicate().position(offset + Integer.BYTES * 2 + keyLength));
+			consumer.accept(new String(key, StandardCharsets.UTF_8), entity);
+			position += Integer.BYTES * 2L + keyLength + entityLength;
+		}
+	}
+
+	private long find(String key) {
+		int keyHash = hash(key);
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		long slot = keyHash & slotMask;
+
+		while (true) {
+			long slotPosition = slotPosition(slot);
+			long recordOffset = getLong(regions, slotPosition);
+			if (recordOffset == 0) {
+				return 0;
+			}
+			if (getInt(regions, slotPosition + Long.BYTES) == keyHash && keyEquals(recordOffset, keyBytes)) {
+				return recordOffset;
+			}
+			slot = (slot + 1) & slotMask;
+		}
+	}
+
+	private boolean keyEquals(long recordOffset, byte[] keyBytes) {
+		ByteBuffer record = region(recordOffset);
+		int position = (int) (recordOffset % REGION_SIZE);
+		if (record.getInt(position) != keyBytes.length) {
+			return false;
+		}
+		position += Integer.BYTES;
+		for (int i = 0; i < keyBytes.length; i++) {
+			if (record.get(position + i) != keyBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private ByteBuffer region(long offset) {
+		return regions[(int) (offset / REGION_SIZE)];
+	}
+
+	@Override
+	public String toString() {
+		return "MappedSnapshot[" + file + ", " + entryCount + " entidades]";
+	}
+
+	private static int hash(String key) {
+		int keyHash = key.hashCode() * 0x9E3779B9;
+		return keyHash ^ (keyHash >>> 16);
+	}
+
+	private static long slotPosition(long slot) {
+		return HEADER_BYTES + slot * SLOT_BYTES;
+	}
+
+	private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long size)
+			throws IOException {
+		int count = (int) Math.max(1, (size + REGION_SIZE - 1) / REGION_SIZE);
+		MappedByteBuffer[] regions = new MappedByteBuffer[count];
+		for (int i = 0; i < count; i++) {
+			long start = (long) i * REGION_SIZE;
+			regions[i] = channel.map(mode, start, Math.min(REGION_SIZE, size - start));
+		}
+		return regions;
+	}
+
+	private static long getLong(MappedByteBuffer[] regions, long offset) {
+		return regions[(int) (offset / REGION_SIZE)].getLong((int) (offset % REGION_SIZE));
+	}
+
+	private static int getInt(MappedByteBuffer[] regions, long offset) {
+		return regions[(int) (offset / REGION_SIZE)].getInt((int) (offset % REGION_SIZE));
+	}
+
+	private static void putLong(MappedByteBuffer[] regions, long offset, long value) {
+		regions[(int) (offset / REGION_SIZE)].putLong((int) (offset % REGION_SIZE), value);
+	}
+
+	private static void putInt(MappedByteBuffer[] regions, long offset, int value) {
+		regions[(int) (offset / REGION_SIZE)].putInt((int) (offset % REGION_SIZE), value);
+	}
+}
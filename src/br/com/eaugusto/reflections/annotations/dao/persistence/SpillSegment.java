@@ -0,0 +1,789 @@
+package br.com.eaugusto.reflections.annotations.dao.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import br.com.eaugusto.reflections.annotations.codec.EntityCodec;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+
+/**
+ * Append-only file of entities moved out of the heap, with a compact
+ * in-memory index of where each one is.
+ *
+ * <p>
+ * Records are written as {@code [int keyLength][key UTF-8][int entityLength]
+ * [entity bytes]}, the same layout as {@link MappedSnapshot}. The index keeps,
+ * per entity, only the hash of its key, the offset and the length of its
+ * record, 16 bytes in three parallel open-addressing arrays; the key itself is
+ * compared against the record on disk, so a lookup costs one positional read.
+ * </p>
+ *
+ * <p>
+ * Records are never rewritten in place. A record becomes garbage when its key
+ * is removed or indexed again, and when it is appended but never indexed.
+ * {@link #compact()} copies the live records to a new file once garbage
+ * outweighs them, without blocking lookups while it copies; only the final
+ * switch to the new file takes the write lock. Lookups may run in parallel
+ * with each other, while appends, index changes and compaction are meant to
+ * come from the single thread maintaining the segment.
+ * </p>
+ *
+ * <p>
+ * A {@link View} copies the index, but no record, so that every entity can be
+ * read without holding off the thread maintaining the segment. The file a
+ * view reads from stays open after compaction and {@link #close()} replace or
+ * delete it, until every view of it is closed.
+ * </p>
+ *
+ * @param <T> The type of persistable entity stored.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class SpillSegment<T extends Persistable> implements Closeable {
+
+	private static final double MAX_LOAD = 0.6;
+	private static final int COPY_BUFFER_BYTES = 1 << 16;
+
+	/** Compaction waits until at least this much of the file is garbage. */
+	private static final long MIN_COMPACTION_GARBAGE = 4L << 20;
+
+	private final Path file;
+	private final Path compactionFile;
+	private final EntityCodec<T> codec;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private FileChannel channel;
+
+	/** Views reading {@link #channel}, which is closed only once none is open. */
+	private Generation generation;
+
+	/** Slot {@code i} is empty when {@code lengths[i]} is 0. */
+	private int[] hashes;
+	private long[] offsets;
+	private int[] lengths;
+	private int mask;
+	private int size;
+
+	private long appendPosition;
+	private long liveBytes;
+
+	private SpillSegment(Path file, EntityCodec<T> codec, FileChannel channel) {
+		this.file = file;
+		this.compactionFile = file.resolveSibling(file.getFileName() + ".compact");
+		this.codec = codec;
+		this.channel = channel;
+		this.generation = new Generation(channel);
+		this.hashes = new int[16];
+		this.offsets = new long[16];
+		this.lengths = new int[16];
+		this.mask = 15;
+	}
+
+	/**
+	 * Creates an empty segment, replacing the file if it exists.
+	 *
+	 * @param <T>   The type of persistable entity stored.
+	 * @param file  The segment file.
+	 * @param codec The codec used to encode each entity.
+	 * @return The segment.
+	 * @throws UncheckedIOException if the file cannot be created.
+	 */
+	public static <T extends Persistable> SpillSegment<T> create(Path file, EntityCodec<T> codec) {
+		try {
+			return new SpillSegment<>(file, codec, FileChannel.open(file, StandardOpenOption.CREATE,
+					StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** @return The number of indexed entities. */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** @return The bytes of the indexed records. */
+	public long getLiveBytes() {
+		lock.readLock().lock();
+		try {
+			return liveBytes;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** @return The bytes of the file no longer referenced by the index. */
+	public long getGarbageBytes() {
+		lock.readLock().lock();
+		try {
+			return appendPosition - liveBytes;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param key    The UTF-8 bytes of the entity's key.
+	 * @param entity The entity.
+	 * @return The bytes {@link #encodeRecord} will write.
+	 */
+	public int recordSize(byte[] key, T entity) {
+		return Integer.BYTES * 2 + key.length + codec.encodedSize(entity);
+	}
+
+	/**
+	 * Writes the record of an entity at the position of the buffer.
+	 *
+	 * @param key    The UTF-8 bytes of the entity's key.
+	 * @param entity The entity.
+	 * @param target A buffer with at least {@link #recordSize} bytes remaining.
+	 */
+	public void encodeRecord(byte[] key, T entity, ByteBuffer target) {
+		target.putInt(key.length).put(key).putInt(codec.encodedSize(entity));
+		codec.encode(entity, target);
+	}
+
+	/**
+	 * Appends encoded records to the end of the file. They stay garbage until
+	 * passed to {@link #index}.
+	 *
+	 * @param records The records, from position to limit.
+	 * @return The file offset of the first appended byte.
+	 * @throws UncheckedIOException if the records cannot be written.
+	 */
+	public long append(ByteBuffer records) {
+		lock.writeLock().lock();
+		try {
+			long start = appendPosition;
+			long position = start;
+			while (records.hasRemaining()) {
+				position += channel.write(records, position);
+			}
+			appendPosition = position;
+			return start;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Points the index entry of a key at an appended record, replacing the
+	 * record it pointed at before, if any.
+	 *
+	 * @param key    The key.
+	 * @param offset The offset of the record, as returned by {@link #append} plus
+	 *               its position among the appended records.
+	 * @param length The length of the record.
+	 * @throws UncheckedIOException if an indexed record cannot be read.
+	 */
+	public void index(String key, long offset, int length) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(key);
+		lock.writeLock().lock();
+		try {
+			int slot = findSlot(keyBytes, keyHash);
+			if (slot >= 0) {
+				liveBytes -= lengths[slot];
+			} else {
+				slot = -slot - 1;
+				size++;
+			}
+			hashes[slot] = keyHash;
+			offsets[slot] = offset;
+			lengths[slot] = length;
+			liveBytes += length;
+			if (size > lengths.length * MAX_LOAD) {
+				resize();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @param key The key.
+	 * @return true if a record is indexed for the key.
+	 * @throws UncheckedIOException if a record cannot be read.
+	 */
+	public boolean contains(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(key);
+		lock.readLock().lock();
+		try {
+			return findSlot(keyBytes, keyHash) >= 0;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Reads the entity indexed for a key.
+	 *
+	 * @param key The key.
+	 * @return A new decoded entity, or null if no record is indexed for the key.
+	 * @throws UncheckedIOException if the record cannot be read.
+	 */
+	public T get(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(key);
+		lock.readLock().lock();
+		try {
+			int slot = findSlot(keyBytes, keyHash);
+			return slot < 0 ? null : decode(readRecord(offsets[slot], lengths[slot]));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Reads the entity indexed for a key and removes it from the index.
+	 *
+	 * @param key The key.
+	 * @return A new decoded entity, or null if no record was indexed for the key.
+	 * @throws UncheckedIOException if the record cannot be read.
+	 */
+	public T remove(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(key);
+		lock.writeLock().lock();
+		try {
+			int slot = findSlot(keyBytes, keyHash);
+			if (slot < 0) {
+				return null;
+			}
+			T entity = decode(readRecord(offsets[slot], lengths[slot]));
+			liveBytes -= lengths[slot];
+			removeSlot(slot);
+			return entity;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the index entry of a key without decoding its record.
+	 *
+	 * @param key The key.
+	 * @return true if a record was indexed for the key.
+	 * @throws UncheckedIOException if a record cannot be read.
+	 */
+	public boolean discard(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int keyHash = hash(key);
+		lock.writeLock().lock();
+		try {
+			int slot = findSlot(keyBytes, keyHash);
+			if (slot < 0) {
+				return false;
+			}
+			liveBytes -= lengths[slot];
+			removeSlot(slot);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the index as it is now. The view must be closed once read, so that
+	 * the file it reads from can be closed after a compaction; a view never
+	 * closed keeps that file open until it is garbage collected.
+	 *
+	 * @return A view of the indexed entities.
+	 */
+	public View<T> view() {
+		lock.readLock().lock();
+		try {
+			generation.pin();
+			return new View<>(this, generation, hashes.clone(), offsets.clone(), lengths.clone(), size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Rewrites the file with only its live records, if garbage makes up most of
+	 * it.
+	 *
+	 * <p>
+	 * The live records present when compaction starts are copied while lookups
+	 * go on; records indexed or appended meanwhile are copied, and the index
+	 * switched to the new file, under the write lock at the end.
+	 * </p>
+	 *
+	 * @return true if the file was compacted.
+	 * @throws UncheckedIOException if the file cannot be rewritten.
+	 */
+	public boolean compact() {
+		long end;
+		long[] liveOffsets;
+		lock.writeLock().lock();
+		try {
+			long garbage = appendPosition - liveBytes;
+			if (garbage < MIN_COMPACTION_GARBAGE || garbage < liveBytes) {
+				return false;
+			}
+			end = appendPosition;
+			liveOffsets = new long[size];
+			int count = 0;
+			for (int slot = 0; slot < lengths.length; slot++) {
+				if (lengths[slot] != 0) {
+					liveOffsets[count++] = offsets[slot];
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+		Arrays.sort(liveOffsets);
+
+		try {
+			FileChannel target = FileChannel.open(compactionFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			try {
+				long[] movedOffsets = copyLiveRecords(liveOffsets, target);
+				switchTo(target, end, liveOffsets, movedOffsets);
+				return true;
+			} catch (IOException | RuntimeException e) {
+				target.close();
+				Files.deleteIfExists(compactionFile);
+				throw e;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Deletes the file, and closes it unless a view still reads from it.
+	 *
+	 * @throws IOException if the file cannot be closed or deleted.
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			generation.retire();
+			Files.deleteIfExists(file);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SpillSegment[" + file + ", " + size() + " entidades]";
+	}
+
+	/**
+	 * Copies the records at the given sorted offsets to the start of the target
+	 * file, reading the source sequentially through one buffer.
+	 *
+	 * @return The new offset of each record, followed by the bytes copied.
+	 */
+	private long[] copyLiveRecords(long[] liveOffsets, FileChannel target) throws IOException {
+		long[] movedOffsets = new long[liveOffsets.length + 1];
+		ByteBuffer window = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+		long windowStart = 0;
+		window.limit(0);
+		ByteBuffer output = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+		long written = 0;
+
+		for (int i = 0; i < liveOffsets.length; i++) {
+			long recordOffset = liveOffsets[i];
+			if (recordOffset < windowStart || recordOffset + Integer.BYTES > windowStart + window.limit()) {
+				windowStart = recordOffset;
+				fill(window, recordOffset);
+			}
+			int relative = (int) (recordOffset - windowStart);
+			int keyLength = window.getInt(relative);
+			if (relative + Integer.BYTES * 2 + keyLength > window.limit()) {
+				windowStart = recordOffset;
+				fill(window, recordOffset);
+				relative = 0;
+			}
+			int recordLength = Integer.BYTES * 2 + keyLength + window.getInt(relative + Integer.BYTES + keyLength);
+			ByteBuffer record;
+			if (relative + recordLength <= window.limit()) {
+				record = window.duplicate().position(relative).limit(relative + recordLength);
+			} else if (recordLength <= window.capacity()) {
+				windowStart = recordOffset;
+				fill(window, recordOffset);
+				record = window.duplicate().limit(recordLength);
+			} else {
+				record = readRecord(recordOffset, recordLength);
+			}
+
+			if (output.remaining() < recordLength) {
+				written += flush(output, target, written);
+			}
+			movedOffsets[i] = written + output.position();
+			if (recordLength > output.capacity()) {
+				written += writeFully(record, target, written);
+			} else {
+				output.put(record);
+			}
+		}
+		written += flush(output, target, written);
+		movedOffsets[liveOffsets.length] = written;
+		return movedOffsets;
+	}
+
+	/**
+	 * Copies what was appended during compaction, rewrites every offset and
+	 * replaces the file.
+	 */
+	private void switchTo(FileChannel target, long end, long[] liveOffsets, long[] movedOffsets) throws IOException {
+		lock.writeLock().lock();
+		try {
+			long targetPosition = movedOffsets[liveOffsets.length];
+			long tailStart = targetPosition;
+			long tailBytes = appendPosition - end;
+			while (targetPosition - tailStart < tailBytes) {
+				long copied = targetPosition - tailStart;
+				targetPosition += channel.transferTo(end + copied, tailBytes - copied,
+						target.position(targetPosition));
+			}
+
+			for (int slot = 0; slot < lengths.length; slot++) {
+				if (lengths[slot] == 0) {
+					continue;
+				}
+				if (offsets[slot] >= end) {
+					offsets[slot] = offsets[slot] - end + tailStart;
+					continue;
+				}
+				int moved = Arrays.binarySearch(liveOffsets, offsets[slot]);
+				if (moved >= 0) {
+					offsets[slot] = movedOffsets[moved];
+				} else {
+					// Appended before compaction started but indexed during it.
+					ByteBuffer record = readRecord(offsets[slot], lengths[slot]);
+					offsets[slot] = targetPosition;
+					targetPosition += writeFully(record, target, targetPosition);
+				}
+			}
+
+			generation.retire();
+			Files.move(compactionFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			channel = target;
+			generation = new Generation(target);
+			appendPosition = targetPosition;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void fill(ByteBuffer window, long position) throws IOException {
+		window.clear();
+		while (window.hasRemaining()) {
+			if (channel.read(window, position + window.position()) < 0) {
+				break;
+			}
+		}
+		window.flip();
+	}
+
+	private long flush(ByteBuffer output, FileChannel target, long position) throws IOException {
+		output.flip();
+		long bytes = writeFully(output, target, position);
+		output.clear();
+		return bytes;
+	}
+
+	private static long writeFully(ByteBuffer source, FileChannel target, long position) throws IOException {
+		long written = 0;
+		while (source.hasRemaining()) {
+			written += target.write(source, position + written);
+		}
+		return written;
+	}
+
+	/**
+	 * Returns the slot holding the key, or {@code -(insertionSlot + 1)} if the
+	 * key is not indexed.
+	 */
+	private int findSlot(byte[] keyBytes, int keyHash) {
+		int slot = keyHash & mask;
+		while (lengths[slot] != 0) {
+			if (hashes[slot] == keyHash && keyEquals(slot, keyBytes)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -slot - 1;
+	}
+
+	private boolean keyEquals(int slot, byte[] keyBytes) {
+		return keyEquals(readRecord(offsets[slot], Math.min(lengths[slot], Integer.BYTES + keyBytes.length)), keyBytes);
+	}
+
+	private ByteBuffer readRecord(long offset, int length) {
+		return readRecord(channel, offset, length);
+	}
+
+	private ByteBuffer readRecord(FileChannel source, long offset, int length) {
+		ByteBuffer record = ByteBuffer.allocate(length);
+		try {
+			while (record.hasRemaining()) {
+				if (source.read(record, offset + record.position()) < 0) {
+					throw new IllegalStateException("Registro truncado no segmento " + file + " em " + offset);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return record.flip();
+	}
+
+	private T decode(ByteBuffer record) {
+		int keyLength = record.getInt(0);
+		return codec.decode(record.position(Integer.BYTES * 2 + keyLength));
+	}
+
+	private static boolean keyEquals(ByteBuffer record, byte[] keyBytes) {
+		if (record.getInt(0) != keyBytes.length) {
+			return false;
+		}
+		for (int i = 0; i < keyBytes.length; i++) {
+			if (record.get(Integer.BYTES + i) != keyBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String keyOf(ByteBuffer record) {
+		byte[] key = new byte[record.getInt(0)];
+		record.get(Integer.BYTES, key);
+		return new String(key, StandardCharsets.UTF_8);
+	}
+
+	private void removeSlot(int slot) {
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while (lengths[next] != 0) {
+			int home = hashes[next] & mask;
+			boolean canMove = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+			if (canMove) {
+				hashes[hole] = hashes[next];
+				offsets[hole] = offsets[next];
+				lengths[hole] = lengths[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		lengths[hole] = 0;
+		size--;
+	}
+
+	private void resize() {
+		int[] oldHashes = hashes;
+		long[] oldOffsets = offsets;
+		int[] oldLengths = lengths;
+		hashes = new int[oldLengths.length * 2];
+		offsets = new long[oldLengths.length * 2];
+		lengths = new int[oldLengths.length * 2];
+		mask = lengths.length - 1;
+
+		for (int i = 0; i < oldLengths.length; i++) {
+			if (oldLengths[i] != 0) {
+				int slot = oldHashes[i] & mask;
+				while (lengths[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				hashes[slot] = oldHashes[i];
+				offsets[slot] = oldOffsets[i];
+				lengths[slot] = oldLengths[i];
+			}
+		}
+	}
+
+	private static int hash(String key) {
+		int keyHash = key.hashCode() * 0x9E3779B9;
+		return keyHash ^ (keyHash >>> 16);
+	}
+
+	/**
+	 * The file of one compaction cycle and the number of views reading it.
+	 */
+	private static final class Generation {
+
+		private final FileChannel channel;
+		private int views;
+		private boolean retired;
+
+		Generation(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		synchronized void pin() {
+			views++;
+		}
+
+		synchronized void unpin() throws IOException {
+			views--;
+			if (retired && views == 0) {
+				channel.close();
+			}
+		}
+
+		/** Closes the file now if no view reads it, or else when the last one closes. */
+		synchronized void retire() throws IOException {
+			retired = true;
+			if (views == 0) {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * The entities of a segment as they were indexed when the view was taken.
+	 *
+	 * <p>
+	 * Holds a copy of the index, about 16 bytes per slot, and reads each record
+	 * from the file on demand, decoding a new entity every time. Later appends,
+	 * index changes and compactions of the segment do not show through it. A
+	 * view may be read by several threads at once.
+	 * </p>
+	 *
+	 * @param <T> The type of persistable entity stored.
+	 */
+	public static final class View<T extends Persistable> implements Closeable, Iterable<Map.Entry<String, T>> {
+
+		private final SpillSegment<T> segment;
+		private final Generation generation;
+		private final int[] hashes;
+		private final long[] offsets;
+		private final int[] lengths;
+		private final int size;
+		private boolean closed;
+
+		private View(SpillSegment<T> segment, Generation generation, int[] hashes, long[] offsets, int[] lengths,
+				int size) {
+			this.segment = segment;
+			this.generation = generation;
+			this.hashes = hashes;
+			this.offsets = offsets;
+			this.lengths = lengths;
+			this.size = size;
+		}
+
+		/** @return The number of entities in the view. */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @param key The key.
+		 * @return true if the view holds an entity for the key.
+		 * @throws UncheckedIOException if a record cannot be read.
+		 */
+		public boolean contains(String key) {
+			return findSlot(key) >= 0;
+		}
+
+		/**
+		 * @param key The key.
+		 * @return A new decoded entity, or null if the view holds none for the key.
+		 * @throws UncheckedIOException if the record cannot be read.
+		 */
+		public T get(String key) {
+			int slot = findSlot(key);
+			return slot < 0 ? null : segment.decode(segment.readRecord(generation.channel, offsets[slot], lengths[slot]));
+		}
+
+		/**
+		 * Reads every entity of the view, one record at a time, in index order.
+		 *
+		 * @return An iterator over each key and a new decoded entity; reading a
+		 *         record it cannot read throws {@link UncheckedIOException}.
+		 */
+		@Override
+		public Iterator<Map.Entry<String, T>> iterator() {
+			return new Iterator<>() {
+
+				private int slot = nextSlot(0);
+
+				@Override
+				public boolean hasNext() {
+					return slot < lengths.length;
+				}
+
+				@Override
+				public Map.Entry<String, T> next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					ByteBuffer record = segment.readRecord(generation.channel, offsets[slot], lengths[slot]);
+					slot = nextSlot(slot + 1);
+					return new AbstractMap.SimpleImmutableEntry<>(keyOf(record), segment.decode(record));
+				}
+			};
+		}
+
+		/**
+		 * Lets the file be closed once the segment no longer uses it. Closing a
+		 * view twice does nothing.
+		 *
+		 * @throws UncheckedIOException if the file cannot be closed.
+		 */
+		@Override
+		public void close() {
+			synchronized (this) {
+				if (closed) {
+					return;
+				}
+				closed = true;
+			}
+			try {
+				generation.unpin();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private int nextSlot(int from) {
+			int slot = from;
+			while (slot < lengths.length && lengths[slot] == 0) {
+				slot++;
+			}
+			return slot;
+		}
+
+		private int findSlot(String key) {
+			byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			int keyHash = hash(key);
+			int mask = lengths.length - 1;
+			int slot = keyHash & mask;
+			while (lengths[slot] != 0) {
+				if (hashes[slot] == keyHash && keyEquals(segment.readRecord(generation.channel, offsets[slot],
+						Math.min(lengths[slot], Integer.BYTES + keyBytes.length)), keyBytes)) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -slot - 1;
+		}
+	}
+}
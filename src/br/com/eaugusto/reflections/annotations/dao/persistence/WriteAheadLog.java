@@ -0,0 +1,400 @@
+package br.com.eaugusto.reflections.annotations.dao.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only binary write-ahead log with group commit.
+ *
+ * <p>
+ * Each record is written as {@code [int length][int crc][byte type][payload]},
+ * where the CRC-32C covers the type and the payload. Appends only copy the
+ * record into an in-memory buffer; a background flusher thread writes the
+ * buffer through a {@link FileChannel} and calls {@link FileChannel#force} once
+ * for every record accumulated meanwhile. Callers that need durability wait
+ * with {@link #awaitDurable(long)}, so several mutations share one fsync. While
+ * more than one caller is waiting, the flusher also holds the commit for up to
+ * the commit window, or until the buffered bytes reach the commit size, so that
+ * more of them join it; a lone writer is committed at once.
+ * </p>
+ *
+ * <p>
+ * Opening a log replays nothing by itself: {@link #replay(RecordHandler)} reads
+ * every valid record, and a torn or corrupt tail left by a crash is truncated
+ * before new records are appended.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class WriteAheadLog implements Closeable {
+
+	/** Default time a record may wait for others to share its fsync. */
+	public static final long DEFAULT_COMMIT_WINDOW_MILLIS = 2;
+
+	/** Default amount of buffered bytes that triggers a commit immediately. */
+	public static final int DEFAULT_COMMIT_BYTES = 256 * 1024;
+
+	/** Size of the {@code [length][crc]} prefix of every record. */
+	private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+	/**
+	 * Receives the records of the log during {@link WriteAheadLog#replay}.
+	 */
+	@FunctionalInterface
+	public interface RecordHandler {
+
+		/**
+		 * Handles one record.
+		 *
+		 * @param type    The record type given to {@link WriteAheadLog#append}.
+		 * @param payload The record payload, positioned at its start.
+		 */
+		void handle(byte type, ByteBuffer payload);
+	}
+
+	private final Path file;
+	private final FileChannel channel;
+	private final long commitWindowNanos;
+	private final int commitBytes;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition recordsAppended = lock.newCondition();
+	private final Condition recordsDurable = lock.newCondition();
+
+	private ByteBuffer pending;
+	private ByteBuffer flushing;
+	private long appendedSequence;
+	private long durableSequence;
+	private int waiters;
+	private IOException failure;
+	private boolean closed;
+	private boolean flusherStopped;
+
+	private final Thread flusher;
+
+	/**
+	 * Opens the log with the default group commit settings.
+	 *
+	 * @param file The log file, created if missing.
+	 * @throws UncheckedIOException if the file cannot be opened.
+	 */
+	public WriteAheadLog(Path file) {
+		this(file, DEFAULT_COMMIT_WINDOW_MILLIS, DEFAULT_COMMIT_BYTES);
+	}
+
+	/**
+	 * Opens the log.
+	 *
+	 * @param file               The log file, created if missing.
+	 * @param commitWindowMillis Maximum time a record waits for others to share
+	 *                           its fsync while several writers are waiting; 0
+	 *                           commits as soon as possible.
+	 * @param commitBytes        Buffered bytes that trigger a commit without
+	 *                           waiting for the window to end.
+	 * @throws UncheckedIOException if the file cannot be opened.
+	 */
+	public WriteAheadLog(Path file, long commitWindowMillis, int commitBytes) {
+		this.file = file;
+		this.commitWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, commitWindowMillis));
+		this.commitBytes = Math.max(1, commitBytes);
+		this.pending = ByteBuffer.allocate(Math.max(this.commitBytes, 4096));
+		this.flushing = ByteBuffer.allocate(pending.capacity());
+
+		try {
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Não foi possível abrir o log " + file, e);
+		}
+
+		this.flusher = new Thread(this::runFlusher, "wal-flusher-" + file.getFileName());
+		this.flusher.setDaemon(true);
+	}
+
+	/**
+	 * Reads every valid record from the start of the log, then truncates any
+	 * torn tail and starts accepting appends. Must be called once, before the
+	 * first {@link #append(byte, ByteBuffer)}.
+	 *
+	 * @param handler Receives each record in the order it was appended.
+	 * @throws UncheckedIOException if the log cannot be read. If reading fails
+	 *                              or the handler throws, the log is closed.
+	 */
+	public void replay(RecordHandler handler) {
+		try {
+			long position = 0;
+			long size = channel.size();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+			while (position + HEADER_BYTES <= size) {
+				header.clear();
+				readFully(header, position);
+				header.flip();
+				int length = header.getInt();
+				int checksum = header.getInt();
+				if (length < 1 || position + HEADER_BYTES + length > size) {
+					break;
+				}
+
+				ByteBuffer body = ByteBuffer.allocate(length);
+				readFully(body, position + HEADER_BYTES);
+				body.flip();
+				if (checksum(body) != checksum) {
+					break;
+				}
+
+				byte type = body.get();
+				handler.handle(type, body.slice());
+				position += HEADER_BYTES + length;
+			}
+
+			channel.truncate(position);
+			channel.position(position);
+		} catch (IOException e) {
+			UncheckedIOException failedRead = new UncheckedIOException("Não foi possível ler o log " + file, e);
+			abandon(failedRead);
+			throw failedRead;
+		} catch (RuntimeException | Error e) {
+			abandon(e);
+			throw e;
+		}
+
+		flusher.start();
+	}
+
+	/**
+	 * Appends a record to the log buffer. The record is durable only after
+	 * {@link #awaitDurable(long)} returns for the returned sequence number.
+	 *
+	 * @param type    An application-defined record type.
+	 * @param payload The record payload, from its position to its limit.
+	 * @return The sequence number of the record.
+	 * @throws UncheckedIOException if a previous commit failed or the log is
+	 *                              closed.
+	 */
+	public long append(byte type, ByteBuffer payload) {
+		int length = Byte.BYTES + payload.remaining();
+
+		lock.lock();
+		try {
+			checkUsable();
+			ensureCapacity(HEADER_BYTES + length);
+
+			int start = pending.position();
+			pending.putInt(length);
+			pending.putInt(0);
+			int bodyStart = pending.position();
+			pending.put(type);
+			pending.put(payload);
+			ByteBuffer body = pending.duplicate();
+			body.limit(pending.position()).position(bodyStart);
+			pending.putInt(start + Integer.BYTES, checksum(body));
+
+			appendedSequence++;
+			recordsAppended.signal();
+			return appendedSequence;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Blocks until the record with the given sequence number, and every record
+	 * before it, has been forced to disk.
+	 *
+	 * @param sequence A sequence number returned by {@link #append}.
+	 * @throws UncheckedIOException if the commit failed or the log was closed
+	 *                              before the record became durable.
+	 */
+	public void awaitDurable(long sequence) {
+		lock.lock();
+		try {
+			waiters++;
+			while (durableSequence < sequence) {
+				if (failure != null || flusherStopped) {
+					checkUsable();
+				}
+				recordsDurable.awaitUninterruptibly();
+			}
+		} finally {
+			waiters--;
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Commits every buffered record, stops the flusher and closes the file.
+	 *
+	 * @throws IOException if the final commit or the close fails.
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			recordsAppended.signal();
+		} finally {
+			lock.unlock();
+		}
+
+		if (flusher.isAlive()) {
+			try {
+				flusher.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		channel.close();
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "WriteAheadLog[" + file + "]";
+	}
+
+	private void runFlusher() {
+		try {
+			flushUntilClosed();
+		} finally {
+			lock.lock();
+			try {
+				flusherStopped = true;
+				recordsDurable.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void flushUntilClosed() {
+		while (true) {
+			long targetSequence;
+
+			lock.lock();
+			try {
+				while (pending.position() == 0 && !closed) {
+					recordsAppended.awaitUninterruptibly();
+				}
+				if (pending.position() == 0) {
+					return;
+				}
+
+				// A lone writer gains nothing from the window, so it only applies
+				// while others are waiting on the same commit.
+				long deadline = System.nanoTime() + commitWindowNanos;
+				long remaining = commitWindowNanos;
+				while (waiters > 1 && remaining > 0 && pending.position() < commitBytes && !closed) {
+					try {
+						remaining = recordsAppended.awaitNanos(remaining);
+					} catch (InterruptedException e) {
+						remaining = deadline - System.nanoTime();
+					}
+				}
+
+				ByteBuffer full = pending;
+				pending = flushing;
+				flushing = full;
+				targetSequence = appendedSequence;
+			} finally {
+				lock.unlock();
+			}
+
+			IOException commitFailure = null;
+			try {
+				flushing.flip();
+				while (flushing.hasRemaining()) {
+					channel.write(flushing);
+				}
+				channel.force(false);
+			} catch (IOException e) {
+				commitFailure = e;
+			}
+			flushing.clear();
+
+			lock.lock();
+			try {
+				if (commitFailure != null) {
+					failure = commitFailure;
+					closed = true;
+				} else {
+					durableSequence = targetSequence;
+				}
+				recordsDurable.signalAll();
+				if (commitFailure != null) {
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Closes the file after a failed replay, which never started the flusher.
+	 */
+	private void abandon(Throwable cause) {
+		lock.lock();
+		try {
+			closed = true;
+		} finally {
+			lock.unlock();
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	private void checkUsable() {
+		if (failure != null) {
+			throw new UncheckedIOException("Falha ao gravar o log " + file, failure);
+		}
+		if (closed) {
+			throw new UncheckedIOException(new IOException("Log " + file + " já foi fechado"));
+		}
+	}
+
+	private void ensureCapacity(int recordBytes) {
+		if (pending.remaining() >= recordBytes) {
+			return;
+		}
+		int newCapacity = Math.max(pending.capacity() * 2, pending.position() + recordBytes);
+		ByteBuffer larger = ByteBuffer.allocate(newCapacity);
+		pending.flip();
+		larger.put(pending);
+		pending = larger;
+	}
+
+	private void readFully(ByteBuffer target, long position) throws IOException {
+		while (target.hasRemaining()) {
+			int read = channel.read(target, position + target.position());
+			if (read < 0) {
+				throw new IOException("Fim inesperado do log " + file);
+			}
+		}
+	}
+
+	private static int checksum(ByteBuffer body) {
+		CRC32C crc = new CRC32C();
+		crc.update(body.duplicate());
+		return (int) crc.getValue();
+	}
+}
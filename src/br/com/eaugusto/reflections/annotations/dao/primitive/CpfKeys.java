@@ -0,0 +1,60 @@
+package br.com.eaugusto.reflections.annotations.dao.primitive;
+
+/**
+ * Conversions between CPF strings and primitive {@code long} keys.
+ *
+ * <p>
+ * A CPF has 11 digits, so it always fits in a {@code long}. Only the plain
+ * 11-digit form ({@code 12345678909}) is parsed, without allocating, so that
+ * each key stands for exactly one string and {@link #format(long)} gives that
+ * string back. Any other text, including the formatted form
+ * ({@code 123.456.789-09}), is left to the caller as a string key.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class CpfKeys {
+
+	/** Returned by {@link #parse(CharSequence)} for text that is not a CPF. */
+	public static final long INVALID = -1;
+
+	private static final int DIGITS = 11;
+
+	private CpfKeys() {
+
+	}
+
+	/**
+	 * Parses a plain CPF without allocating.
+	 *
+	 * @param cpf The CPF text.
+	 * @return Its numeric value, or {@link #INVALID} unless the text is exactly
+	 *         11 digits.
+	 */
+	public static long parse(CharSequence cpf) {
+		if (cpf == null || cpf.length() != DIGITS) {
+			return INVALID;
+		}
+		long value = 0;
+		for (int i = 0; i < DIGITS; i++) {
+			char current = cpf.charAt(i);
+			if (current < '0' || current > '9') {
+				return INVALID;
+			}
+			value = value * 10 + (current - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Formats a key back to its 11-digit form.
+	 *
+	 * @param key A value returned by {@link #parse(CharSequence)}.
+	 * @return The CPF digits, padded with leading zeros.
+	 */
+	public static String format(long key) {
+		String digits = Long.toString(key);
+		return "0".repeat(Math.max(0, DIGITS - digits.length())) + digits;
+	}
+}
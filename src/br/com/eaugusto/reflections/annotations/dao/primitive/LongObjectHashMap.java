@@ -0,0 +1,177 @@
+package br.com.eaugusto.reflections.annotations.dao.primitive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to objects.
+ *
+ * <p>
+ * Keys and values live in two parallel arrays, so an entry costs two array
+ * slots instead of a boxed key plus a {@code HashMap.Node}, and a lookup probes
+ * consecutive {@code long}s instead of chasing node pointers. Keys are stored
+ * plus one so that {@code 0} marks an empty slot; {@link Long#MAX_VALUE} is
+ * therefore not a valid key. Removals shift the following entries of the probe
+ * chain back, so no tombstones accumulate. This class is not thread-safe.
+ * </p>
+ *
+ * @param <V> The type of the values.
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class LongObjectHashMap<V> {
+
+	private static final double MAX_LOAD = 0.6;
+
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+
+	/** Creates an empty map. */
+	public LongObjectHashMap() {
+		this(16);
+	}
+
+	/**
+	 * Creates an empty map sized for the expected number of entries.
+	 *
+	 * @param expectedSize The number of entries to hold without resizing.
+	 */
+	public LongObjectHashMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+		this.keys = new long[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/** @return The number of entries. */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param key The key.
+	 * @return The value mapped to the key, or null.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		int slot = findSlot(key + 1);
+		return (V) values[slot];
+	}
+
+	/**
+	 * @param key The key.
+	 * @return true if the key is mapped.
+	 */
+	public boolean containsKey(long key) {
+		return keys[findSlot(key + 1)] != 0;
+	}
+
+	/**
+	 * Maps a key to a value only if the key is not mapped yet.
+	 *
+	 * @param key   The key.
+	 * @param value The value, not null.
+	 * @return true if the value was stored; false if the key was already mapped.
+	 */
+	public boolean putIfAbsent(long key, V value) {
+		long storedKey = key + 1;
+		int slot = findSlot(storedKey);
+		if (keys[slot] != 0) {
+			return false;
+		}
+		keys[slot] = storedKey;
+		values[slot] = value;
+		if (++size > keys.length * MAX_LOAD) {
+			resize();
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the mapping of a key.
+	 *
+	 * @param key The key.
+	 * @return The removed value, or null if the key was not mapped.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		int slot = findSlot(key + 1);
+		if (keys[slot] == 0) {
+			return null;
+		}
+		V removed = (V) values[slot];
+
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while (keys[next] != 0) {
+			int home = mix(keys[next]) & mask;
+			boolean canMove = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+			if (canMove) {
+				keys[hole] = keys[next];
+				values[hole] = values[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = 0;
+		values[hole] = null;
+		size--;
+		return removed;
+	}
+
+	/** @return A new list with every value, in slot order. */
+	@SuppressWarnings("unchecked")
+	public Collection<V> values() {
+		List<V> result = new ArrayList<>(size);
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				result.add((V) values[slot]);
+			}
+		}
+		return result;
+	}
+
+	/** Removes every entry. */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private int findSlot(long storedKey) {
+		int slot = mix(storedKey) & mask;
+		while (keys[slot] != 0 && keys[slot] != storedKey) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void resize() {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new long[oldKeys.length * 2];
+		values = new Object[oldKeys.length * 2];
+		mask = keys.length - 1;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int slot = mix(oldKeys[i]) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private static int mix(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+}
@@ -2,6 +2,8 @@ package br.com.eaugusto.reflections.annotations.domain;
 
 import java.util.Objects;
 
+import br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded;
+import br.com.eaugusto.reflections.annotations.annotation.Indexed;
 import br.com.eaugusto.reflections.annotations.annotation.KeyType;
 
 /**
@@ -19,9 +21,21 @@ public class Client implements Persistable {
 	private String phoneNumber;
 	private String address;
 	private String addressNumber;
+	@Indexed
+	@DictionaryEncoded
 	private String city;
+	@Indexed
+	@DictionaryEncoded
 	private String state;
 
+	/**
+	 * Constructs an empty Client, used by codecs that rebuild instances field by
+	 * field through reflection.
+	 */
+	public Client() {
+
+	}
+
 	/**
 	 * Constructs a Client instance with full details.
 	 * 
@@ -102,21 +116,6 @@ public class Client implements Persistable {
 		this.state = state;
 	}
 
-	/**
-	 * Updates this client's fields with the data from another Client instance,
-	 * except CPF, which uniquely identifies this client.
-	 * 
-	 * @param newInformations client object with updated data
-	 */
-	public void updateWith(Client newInformations) {
-		this.setName(newInformations.getName());
-		this.setPhoneNumber(newInformations.getPhoneNumber());
-		this.setAddress(newInformations.getAddress());
-		this.setAddressNumber(newInformations.getAddressNumber());
-		this.setCity(newInformations.getCity());
-		this.setState(newInformations.getState());
-	}
-
 	/**
 	 * Equality is based solely on CPF since it uniquely identifies the client.
 	 */
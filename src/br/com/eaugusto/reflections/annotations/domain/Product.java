@@ -1,6 +1,9 @@
 package br.com.eaugusto.reflections.annotations.domain;
 
+import br.com.eaugusto.reflections.annotations.annotation.DictionaryEncoded;
+import br.com.eaugusto.reflections.annotations.annotation.Indexed;
 import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+import br.com.eaugusto.reflections.annotations.annotation.RangeIndexed;
 
 /**
  * Represents a product with identifying code, description, and pricing details.
@@ -15,9 +18,20 @@ public class Product implements Persistable {
 	private String code;
 	private String name;
 	private String description;
+	@RangeIndexed
 	private double value;
+	@Indexed
+	@DictionaryEncoded
 	private String brand;
 
+	/**
+	 * Constructs an empty Product, used by codecs that rebuild instances field by
+	 * field through reflection.
+	 */
+	public Product() {
+
+	}
+
 	/**
 	 * Constructs a Product instance with all attributes.
 	 * 
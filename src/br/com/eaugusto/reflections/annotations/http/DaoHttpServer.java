@@ -0,0 +1,393 @@
+package br.com.eaugusto.reflections.annotations.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.eaugusto.reflections.annotations.codec.JsonCodec;
+import br.com.eaugusto.reflections.annotations.dao.ClientConcurrentMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.IClientDAO;
+import br.com.eaugusto.reflections.annotations.dao.IProductDAO;
+import br.com.eaugusto.reflections.annotations.dao.ProductConcurrentMapDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.IGenericDAO;
+import br.com.eaugusto.reflections.annotations.dao.generic.KeyExtractor;
+import br.com.eaugusto.reflections.annotations.domain.Client;
+import br.com.eaugusto.reflections.annotations.domain.Persistable;
+import br.com.eaugusto.reflections.annotations.domain.Product;
+
+/**
+ * Embedded HTTP/JSON endpoint serving a client DAO and a product DAO, built on
+ * the JDK's {@link HttpServer}.
+ *
+ * <p>
+ * Both entities are exposed under {@code /clientes} and {@code /produtos}:
+ * </p>
+ * <ul>
+ * <li>{@code POST /clientes} registers the client in the body; answers 201, or
+ * 409 if the CPF is already registered.</li>
+ * <li>{@code GET /clientes/<CPF>} answers the client, or 404.</li>
+ * <li>{@code PUT /clientes/<CPF>} updates the client with the body; answers
+ * 200, or 404.</li>
+ * <li>{@code DELETE /clientes/<CPF>} answers 204, or 404.</li>
+ * <li>{@code GET /clientes?after=<CPF>&limit=100} answers
+ * {@code {"limit":100,"items":[...],"next":"<CPF>"}}: at most
+ * {@value #MAX_PAGE_SIZE} clients whose CPF sorts after {@code after}, in CPF
+ * order. {@code next} is the last CPF of the page, to pass as {@code after} for
+ * the following one, or null on the last page. Without {@code after} the list
+ * starts at the first CPF.</li>
+ * </ul>
+ * <p>
+ * Entities are converted with their {@link JsonCodec}, so missing or blank text
+ * fields become "Não informado" as in the registration dialogs. Errors answer
+ * {@code {"error":"<message>"}}; unexpected failures answer 500 with a generic
+ * message and are not described to the client.
+ * </p>
+ *
+ * <p>
+ * Pages are cut by key rather than by position, so registrations and deletions
+ * between two requests never repeat or skip an entity of the following pages.
+ * Each page still reads every entity once, keeping only the {@code limit}
+ * smallest keys after the cursor.
+ * </p>
+ *
+ * <p>
+ * Each request runs on its own virtual thread when the running JDK offers them
+ * (Java 21 or later), looked up by reflection so the project still builds on
+ * older JDKs; otherwise requests share a fixed pool of platform threads. The
+ * DAOs are called from many threads at once and must be thread-safe, such as
+ * {@link ClientConcurrentMapDAO} and {@link ProductConcurrentMapDAO}.
+ * </p>
+ *
+ * <p>
+ * The JDK server leaves Nagle's algorithm on, which holds small responses back
+ * until the client's delayed ACK, about 40ms per request. Start the JVM with
+ * {@code -Dsun.net.httpserver.nodelay=true} to turn it off; the property is read
+ * once, when the first server is created.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class DaoHttpServer implements Closeable {
+
+	/** Largest page answered by the list operations. */
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	/** Page size used when the request does not give one. */
+	public static final int DEFAULT_PAGE_SIZE = 100;
+
+	/** Pending connections the socket accepts before refusing new ones. */
+	private static final int BACKLOG = 4096;
+
+	private static final String JSON = "application/json; charset=utf-8";
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	/**
+	 * Binds the server without starting it.
+	 *
+	 * @param address    The address to listen on; port 0 picks a free port.
+	 * @param clientDAO  A thread-safe client DAO.
+	 * @param productDAO A thread-safe product DAO.
+	 * @throws UncheckedIOException if the address cannot be bound.
+	 */
+	public DaoHttpServer(InetSocketAddress address, IClientDAO clientDAO, IProductDAO productDAO) {
+		try {
+			this.server = HttpServer.create(address, BACKLOG);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Não foi possível abrir o servidor em " + address, e);
+		}
+		this.executor = newRequestExecutor();
+		server.setExecutor(executor);
+		server.createContext("/clientes", new EntityHandler<>("/clientes", clientDAO, Client.class, "Cliente"));
+		server.createContext("/produtos", new EntityHandler<>("/produtos", productDAO, Product.class, "Produto"));
+	}
+
+	/**
+	 * Starts the server on port 8080, or on the port given as the first argument,
+	 * with empty concurrent DAOs.
+	 *
+	 * @param args command-line arguments: optionally the port
+	 */
+	public static void main(String[] args) {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+		DaoHttpServer server = new DaoHttpServer(new InetSocketAddress(port), new ClientConcurrentMapDAO(),
+				new ProductConcurrentMapDAO());
+		server.start();
+		System.out.println("Servidor ouvindo na porta " + server.getPort());
+	}
+
+	/** Starts answering requests. */
+	public void start() {
+		server.start();
+	}
+
+	/** @return The port the server listens on. */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Stops accepting connections, waits up to one second for the requests in
+	 * flight and stops the request threads.
+	 */
+	@Override
+	public void close() {
+		server.stop(1);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Creates an executor running each task on a new virtual thread, or a pool of
+	 * platform threads when virtual threads are not available.
+	 */
+	private static ExecutorService newRequestExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (NoSuchMethodException e) {
+			int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 8);
+			return Executors.newFixedThreadPool(threads, task -> {
+				Thread thread = new Thread(task, "http-worker");
+				thread.setDaemon(true);
+				return thread;
+			});
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Não foi possível criar as threads virtuais", e);
+		}
+	}
+
+	/** Answers the requests for one entity type. */
+	private static final class EntityHandler<T extends Persistable> implements HttpHandler {
+
+		private final String path;
+		private final IGenericDAO<T> dao;
+		private final JsonCodec<T> codec;
+		private final String notFound;
+		private final String alreadyRegistered;
+
+		EntityHandler(String path, IGenericDAO<T> dao, Class<T> entityClass, String entityName) {
+			this.path = path;
+			this.dao = dao;
+			this.codec = JsonCodec.of(entityClass);
+			this.notFound = entityName + " não encontrado.";
+			this.alreadyRegistered = entityName + " já cadastrado.";
+		}
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			try {
+				String requestPath = exchange.getRequestURI().getRawPath();
+				if (requestPath.length() > path.length() && requestPath.charAt(path.length()) != '/') {
+					sendError(exchange, 404, "Recurso não encontrado: " + requestPath);
+					return;
+				}
+				String key = requestPath.length() > path.length() + 1
+						? URLDecoder.decode(requestPath.substring(path.length() + 1), StandardCharsets.UTF_8)
+						: null;
+				String method = exchange.getRequestMethod();
+
+				if (key == null) {
+					if ("GET".equals(method)) {
+						list(exchange);
+					} else if ("POST".equals(method)) {
+						register(exchange);
+					} else {
+						methodNotAllowed(exchange, "GET, POST");
+					}
+				} else if ("GET".equals(method)) {
+					search(exchange, key);
+				} else if ("PUT".equals(method)) {
+					update(exchange, key);
+				} else if ("DELETE".equals(method)) {
+					delete(exchange, key);
+				} else {
+					methodNotAllowed(exchange, "GET, PUT, DELETE");
+				}
+			} catch (IllegalArgumentException e) {
+				sendError(exchange, 400, e.getMessage());
+			} catch (RuntimeException e) {
+				sendError(exchange, 500, "Erro interno do servidor.");
+			} finally {
+				exchange.close();
+			}
+		}
+
+		private void register(HttpExchange exchange) throws IOException {
+			T entity = codec.read(readBody(exchange));
+			if (Boolean.TRUE.equals(dao.register(entity))) {
+				send(exchange, 201, codec.write(entity));
+			} else {
+				sendError(exchange, 409, alreadyRegistered);
+			}
+		}
+
+		private void search(HttpExchange exchange, String key) throws IOException {
+			T entity = dao.search(key);
+			if (entity != null) {
+				send(exchange, 200, codec.write(entity));
+			} else {
+				sendError(exchange, 404, notFound);
+			}
+		}
+
+		private void update(HttpExchange exchange, String key) throws IOException {
+			T entity = codec.read(readBody(exchange));
+			codec.setKey(entity, key);
+			// The batch form updates and reports whether the key existed in one call.
+			if (dao.updateAll(Collections.singletonList(entity)).get(0)) {
+				// Updates copy every field but the key, so the body is the stored state.
+				send(exchange, 200, codec.write(entity));
+			} else {
+				sendError(exchange, 404, notFound);
+			}
+		}
+
+		private void delete(HttpExchange exchange, String key) throws IOException {
+			if (dao.deleteAll(Collections.singletonList(key)).get(0)) {
+				exchange.sendResponseHeaders(204, -1);
+			} else {
+				sendError(exchange, 404, notFound);
+			}
+		}
+
+		private void list(HttpExchange exchange) throws IOException {
+			String after = null;
+			int limit = DEFAULT_PAGE_SIZE;
+			String query = exchange.getRequestURI().getRawQuery();
+			if (query != null) {
+				for (String eachParameter : query.split("&")) {
+					int separator = eachParameter.indexOf('=');
+					String name = separator < 0 ? eachParameter : eachParameter.substring(0, separator);
+					String value = separator < 0 ? "" : eachParameter.substring(separator + 1);
+					if ("after".equals(name)) {
+						after = URLDecoder.decode(value, StandardCharsets.UTF_8);
+					} else if ("limit".equals(name)) {
+						limit = Math.min(MAX_PAGE_SIZE, parsePageParameter(name, value));
+					}
+				}
+			}
+
+			List<Map.Entry<String, T>> page = pageAfter(after, limit);
+			StringBuilder body = new StringBuilder(64 + page.size() * 160);
+			body.append("{\"limit\":").append(limit).append(",\"items\":[");
+			for (int i = 0; i < page.size(); i++) {
+				if (i > 0) {
+					body.append(',');
+				}
+				codec.write(page.get(i).getValue(), body);
+			}
+			body.append("],\"next\":");
+			if (page.size() == limit && limit > 0) {
+				appendString(body, page.get(limit - 1).getKey());
+			} else {
+				body.append("null");
+			}
+			send(exchange, 200, body.append('}').toString());
+		}
+
+		/**
+		 * Selects the entities with the {@code limit} smallest keys above
+		 * {@code after}, in key order, keeping no more than {@code limit} of them
+		 * while reading the DAO.
+		 */
+		private List<Map.Entry<String, T>> pageAfter(String after, int limit) {
+			Comparator<Map.Entry<String, T>> byKey = Map.Entry.comparingByKey();
+			PriorityQueue<Map.Entry<String, T>> largestFirst = new PriorityQueue<>(Math.max(1, limit),
+					byKey.reversed());
+			if (limit > 0) {
+				for (T eachEntity : dao.searchAll()) {
+					String eachKey = KeyExtractor.forClass(eachEntity.getClass()).extract(eachEntity);
+					if (eachKey == null || after != null && eachKey.compareTo(after) <= 0) {
+						continue;
+					}
+					if (largestFirst.size() < limit) {
+						largestFirst.add(new AbstractMap.SimpleImmutableEntry<>(eachKey, eachEntity));
+					} else if (eachKey.compareTo(largestFirst.peek().getKey()) < 0) {
+						largestFirst.poll();
+						largestFirst.add(new AbstractMap.SimpleImmutableEntry<>(eachKey, eachEntity));
+					}
+				}
+			}
+			List<Map.Entry<String, T>> page = new ArrayList<>(largestFirst);
+			page.sort(byKey);
+			return page;
+		}
+
+		private static int parsePageParameter(String name, String value) {
+			try {
+				int parsed = Integer.parseInt(value);
+				if (parsed >= 0) {
+					return parsed;
+				}
+			} catch (NumberFormatException e) {
+				// Reported below, like negative values.
+			}
+			throw new IllegalArgumentException("Parâmetro '" + name + "' inválido: " + value);
+		}
+
+		private static String readBody(HttpExchange exchange) throws IOException {
+			try (InputStream body = exchange.getRequestBody()) {
+				return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+
+		private static void methodNotAllowed(HttpExchange exchange, String allowed) throws IOException {
+			exchange.getResponseHeaders().set("Allow", allowed);
+			sendError(exchange, 405, "Método não permitido");
+		}
+
+		private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+			StringBuilder body = new StringBuilder(message.length() + 16).append("{\"error\":");
+			appendString(body, message);
+			send(exchange, status, body.append('}').toString());
+		}
+
+		private static void appendString(StringBuilder body, String text) {
+			body.append('"');
+			for (int i = 0; i < text.length(); i++) {
+				char current = text.charAt(i);
+				if (current == '"' || current == '\\') {
+					body.append('\\');
+				}
+				body.append(current < ' ' ? ' ' : current);
+			}
+			body.append('"');
+		}
+
+		private static void send(HttpExchange exchange, int status, String json) throws IOException {
+			byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", JSON);
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(bytes);
+			}
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package br.com.eaugusto.reflections.annotations.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.eaugusto.reflections.annotations.dao.metrics.LatencyHistogram;
+
+/**
+ * Load generator for {@link DaoHttpServer}.
+ *
+ * <p>
+ * Keeps a fixed number of requests in flight with the asynchronous
+ * {@link HttpClient} and runs two phases against {@code /clientes}: one
+ * registration per client, then a mix of 90% searches and 10% updates of
+ * random clients. Each phase reports its throughput, the responses with an
+ * unexpected status and the latency distribution.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code LoadTestClient [baseUrl] [clients] [requests] [concurrency]},
+ * by default {@code http://localhost:8080 100000 1000000 256}.
+ * </p>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class LoadTestClient {
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(10)).build();
+	private final String baseUrl;
+	private final int concurrency;
+
+	/**
+	 * Creates a client.
+	 *
+	 * @param baseUrl     The server address, such as {@code http://localhost:8080}.
+	 * @param concurrency The requests kept in flight.
+	 */
+	public LoadTestClient(String baseUrl, int concurrency) {
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.concurrency = Math.max(1, concurrency);
+	}
+
+	/**
+	 * Runs both phases and prints their reports.
+	 *
+	 * @param args command-line arguments: optionally the base URL, the number of
+	 *             clients, the number of mixed requests and the concurrency
+	 * @throws InterruptedException if interrupted while waiting for responses
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+		int clients = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+		int requests = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+		int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+
+		LoadTestClient loadTest = new LoadTestClient(baseUrl, concurrency);
+		System.out.println(loadTest.registerClients(clients));
+		System.out.println(loadTest.searchAndUpdateClients(clients, requests));
+	}
+
+	/**
+	 * Registers clients whose CPFs are {@code 0} to {@code clients - 1}, padded
+	 * to eleven digits.
+	 *
+	 * @param clients The number of clients.
+	 * @return The report of the phase.
+	 * @throws InterruptedException if interrupted while waiting for responses
+	 */
+	public String registerClients(int clients) throws InterruptedException {
+		return run("Cadastro", clients, 201, index -> HttpRequest.newBuilder(URI.create(baseUrl + "/clientes"))
+				.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(clientJson(index)))
+				.build());
+	}
+
+	/**
+	 * Sends searches and updates of random clients among the registered ones.
+	 *
+	 * @param clients  The number of registered clients.
+	 * @param requests The number of requests.
+	 * @return The report of the phase.
+	 * @throws InterruptedException if interrupted while waiting for responses
+	 */
+	public String searchAndUpdateClients(int clients, int requests) throws InterruptedException {
+		return run("Pesquisa/atualização", requests, 200, index -> {
+			int clientIndex = ThreadLocalRandom.current().nextInt(clients);
+			HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/clientes/" + cpf(clientIndex)));
+			if (index % 10 == 0) {
+				request.header("Content-Type", "application/json")
+						.PUT(HttpRequest.BodyPublishers.ofString(clientJson(clientIndex)));
+			}
+			return request.build();
+		});
+	}
+
+	/** Builds the request of one iteration of a phase. */
+	@FunctionalInterface
+	private interface RequestFactory {
+		HttpRequest create(int index);
+	}
+
+	private String run(String phase, int requests, int expectedStatus, RequestFactory requestFactory)
+			throws InterruptedException {
+		Semaphore inFlight = new Semaphore(concurrency);
+		LatencyHistogram latencies = new LatencyHistogram();
+		LongAdder unexpected = new LongAdder();
+		LongAdder failures = new LongAdder();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			inFlight.acquire();
+			long sent = System.nanoTime();
+			client.sendAsync(requestFactory.create(i), HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, failure) -> {
+						latencies.record(System.nanoTime() - sent);
+						if (failure != null) {
+							failures.increment();
+						} else if (response.statusCode() != expectedStatus) {
+							unexpected.increment();
+						}
+						inFlight.release();
+					});
+		}
+		inFlight.acquire(concurrency);
+		long elapsed = System.nanoTime() - start;
+
+		return phase + ": " + requests + " requisições em " + elapsed / 1_000_000 + "ms ("
+				+ Math.round(requests * 1_000_000_000.0 / Math.max(1, elapsed)) + " req/s), status inesperado: "
+				+ unexpected.sum() + ", falhas: " + failures.sum() + "\n  " + latencies.snapshot();
+	}
+
+	private static String cpf(int index) {
+		String digits = Integer.toString(index);
+		return "00000000000".substring(digits.length()) + digits;
+	}
+
+	private static String clientJson(int index) {
+		return "{\"name\":\"Cliente " + index + "\",\"cpf\":\"" + cpf(index) + "\",\"phoneNumber\":\"1199999"
+				+ (index % 10000) + "\",\"address\":\"Rua " + (index % 500) + "\",\"addressNumber\":\"" + index % 1000
+				+ "\",\"city\":\"São Paulo\",\"state\":\"SP\"}";
+	}
+}
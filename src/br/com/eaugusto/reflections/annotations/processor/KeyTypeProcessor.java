@@ -0,0 +1,178 @@
+package br.com.eaugusto.reflections.annotations.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import br.com.eaugusto.reflections.annotations.annotation.GeneratedKeyExtractor;
+import br.com.eaugusto.reflections.annotations.annotation.KeyType;
+
+/**
+ * Compile-time processor for the {@link KeyType} annotation.
+ *
+ * <p>
+ * For every class declaring a field annotated with {@link KeyType}, this
+ * processor checks that the class implements
+ * {@link br.com.eaugusto.reflections.annotations.domain.Persistable} and that
+ * the named getter exists, is public, takes no arguments and returns
+ * {@link String}. It then generates a {@link GeneratedKeyExtractor} named
+ * {@code <Entity>_KeyExtractor} in the entity's package, which calls the getter
+ * directly.
+ * </p>
+ *
+ * <p>
+ * Misconfigured entities become compilation errors instead of
+ * {@link IllegalStateException}s at runtime. The processor must be compiled
+ * before the entities and enabled on the compiler, for example:
+ * </p>
+ *
+ * <pre>
+ * javac -processor br.com.eaugusto.reflections.annotations.processor.KeyTypeProcessor ...
+ * </pre>
+ *
+ * @author Eduardo Augusto (https://github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@SupportedAnnotationTypes("br.com.eaugusto.reflections.annotations.annotation.KeyType")
+public class KeyTypeProcessor extends AbstractProcessor {
+
+	private static final String PERSISTABLE = "br.com.eaugusto.reflections.annotations.domain.Persistable";
+
+	/** Entities already generated, so a class is never written twice. */
+	private final Set<String> generatedEntities = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element eachField : roundEnv.getElementsAnnotatedWith(KeyType.class)) {
+			TypeElement entity = (TypeElement) eachField.getEnclosingElement();
+			String methodName = eachField.getAnnotation(KeyType.class).value();
+
+			if (isValid(entity, eachField, methodName)
+					&& generatedEntities.add(entity.getQualifiedName().toString())) {
+				writeExtractor(entity, methodName);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reports every misconfiguration of the {@link KeyType} declaration as a
+	 * compilation error on the offending element.
+	 */
+	private boolean isValid(TypeElement entity, Element field, String methodName) {
+		Messager messager = processingEnv.getMessager();
+		Elements elements = processingEnv.getElementUtils();
+		Types types = processingEnv.getTypeUtils();
+
+		TypeElement persistable = elements.getTypeElement(PERSISTABLE);
+		if (persistable != null && !types.isAssignable(entity.asType(), types.erasure(persistable.asType()))) {
+			messager.printMessage(Diagnostic.Kind.ERROR,
+					"@KeyType só pode ser usado em classes que implementam Persistable", field);
+			return false;
+		}
+
+		for (Element eachOther : entity.getEnclosedElements()) {
+			if (eachOther != field && eachOther.getKind() == ElementKind.FIELD
+					&& eachOther.getAnnotation(KeyType.class) != null) {
+				messager.printMessage(Diagnostic.Kind.ERROR,
+						"Apenas um campo pode ser anotado com @KeyType na classe " + entity.getSimpleName(), field);
+				return false;
+			}
+		}
+
+		ExecutableElement getter = findGetter(entity, methodName);
+		if (getter == null) {
+			messager.printMessage(Diagnostic.Kind.ERROR,
+					"Método '" + methodName + "' não encontrado na classe " + entity.getSimpleName(), field);
+			return false;
+		}
+
+		if (!getter.getModifiers().contains(Modifier.PUBLIC) || getter.getModifiers().contains(Modifier.STATIC)) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Não foi possível acessar o método '" + methodName
+					+ "' na classe " + entity.getSimpleName(), field);
+			return false;
+		}
+
+		TypeMirror stringType = elements.getTypeElement(String.class.getName()).asType();
+		if (!types.isSameType(getter.getReturnType(), stringType)) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Método '" + methodName + "' deve retornar uma String.",
+					field);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Looks up a no-argument method with the given name, including inherited
+	 * members.
+	 */
+	private ExecutableElement findGetter(TypeElement entity, String methodName) {
+		List<ExecutableElement> methods = ElementFilter
+				.methodsIn(processingEnv.getElementUtils().getAllMembers(entity));
+
+		for (ExecutableElement eachMethod : methods) {
+			if (eachMethod.getSimpleName().contentEquals(methodName) && eachMethod.getParameters().isEmpty()) {
+				return eachMethod;
+			}
+		}
+		return null;
+	}
+
+	private void writeExtractor(TypeElement entity, String methodName) {
+		PackageElement entityPackage = processingEnv.getElementUtils().getPackageOf(entity);
+		String packageName = entityPackage.isUnnamed() ? "" : entityPackage.getQualifiedName().toString();
+		String entityName = entity.getQualifiedName().toString();
+		String simpleName = entity.getSimpleName() + GeneratedKeyExtractor.SUFFIX;
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("@javax.annotation.processing.Generated(\"").append(KeyTypeProcessor.class.getName())
+				.append("\")\n");
+		source.append("public final class ").append(simpleName).append(" implements ")
+				.append(GeneratedKeyExtractor.class.getName()).append('<').append(entityName).append("> {\n\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic String extractKey(").append(entityName).append(" entity) {\n");
+		source.append("\t\treturn entity.").append(methodName).append("();\n");
+		source.append("\t}\n");
+		source.append("}\n");
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, entity);
+			try (Writer writer = file.openWriter()) {
+				writer.write(source.toString());
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Não foi possível gerar " + qualifiedName + ": " + e.getMessage(), entity);
+		}
+	}
+}